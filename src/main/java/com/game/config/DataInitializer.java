@@ -1,11 +1,14 @@
 package com.game.config;
 
-import com.game.model.Word;
 import com.game.repository.WordRepository;
+import com.game.service.GuessDictionary;
+import com.game.service.WordDictionary;
+import com.game.service.WordImportService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.StringReader;
 import java.util.Arrays;
 import java.util.List;
 
@@ -16,7 +19,8 @@ public class DataInitializer {
      * Initialize the database with 20 five-letter English words in uppercase
      */
     @Bean
-    public CommandLineRunner initWords(WordRepository wordRepository) {
+    public CommandLineRunner initWords(WordRepository wordRepository, WordImportService wordImportService,
+            WordDictionary wordDictionary, GuessDictionary guessDictionary) {
         return args -> {
             // Check if words already exist
             if (wordRepository.count() == 0) {
@@ -27,14 +31,13 @@ public class DataInitializer {
                         "KNIFE", "LEMON", "MUSIC", "NIGHT", "OCEAN",
                         "PIANO", "QUICK", "RIVER", "STEEL", "TABLE");
 
-                // Save each word to database
-                wordList.forEach(wordText -> {
-                    Word word = new Word();
-                    word.setWord(wordText);
-                    wordRepository.save(word);
-                });
-
-                System.out.println("Initialized database with " + wordList.size() + " words");
+                // Insert them in one batch (also loads the in-memory dictionaries and
+                // prints the import summary)
+                wordImportService.importWords(new StringReader(String.join("\n", wordList)));
+            } else {
+                // Load the in-memory word index and guess list used by the game hot path
+                wordDictionary.reload();
+                guessDictionary.reload();
             }
         };
     }
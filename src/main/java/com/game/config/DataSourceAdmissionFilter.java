@@ -0,0 +1,156 @@
+package com.game.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits at most as many concurrent API requests as the connection pool has
+ * connections (or app.db-admission.permits).
+ *
+ * With virtual threads the web server no longer caps concurrency, so a burst
+ * would otherwise queue thousands of requests inside the pool until they time
+ * out. Here they wait briefly in a fair queue and are refused with 503 and
+ * Retry-After beyond app.db-admission.wait-ms. On by default in virtual thread
+ * mode only; with platform threads Tomcat's pool already bounds concurrency.
+ *
+ * A permit is released when the request thread returns. Streamed responses
+ * (exports and NDJSON listings) read from an open connection after that, so
+ * they mark the request with {@link #HOLD_PERMIT} and keep their permit until
+ * the async work completes. Other async requests release theirs right away:
+ * a login looks its user up on the request thread, under the permit, and only
+ * the password check waits for the hashing pool, which needs no connection.
+ */
+@Component
+@Order(2)
+@ConditionalOnProperty(name = "app.db-admission.enabled", havingValue = "true")
+public class DataSourceAdmissionFilter implements Filter {
+
+    /**
+     * Request attribute set by handlers whose async work holds a connection
+     */
+    public static final String HOLD_PERMIT = DataSourceAdmissionFilter.class.getName() + ".HOLD_PERMIT";
+
+    private final Semaphore permits;
+    private final long waitMs;
+    private final Counter rejected;
+
+    public DataSourceAdmissionFilter(DataSource dataSource, MeterRegistry meterRegistry,
+            @Value("${app.db-admission.permits:0}") int permits,
+            @Value("${app.db-admission.wait-ms:1000}") long waitMs) throws SQLException {
+        int size = permits > 0 ? permits : poolSize(dataSource);
+        this.permits = new Semaphore(size, true);
+        this.waitMs = waitMs;
+        this.rejected = Counter.builder("db.admission.rejected")
+                .description("API requests refused while every connection was in use")
+                .register(meterRegistry);
+        Gauge.builder("db.admission.in_flight", this.permits, semaphore -> size - semaphore.availablePermits())
+                .description("API requests holding an admission permit")
+                .register(meterRegistry);
+        System.out.println("Admitting " + size + " concurrent API requests");
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if (!httpRequest.getRequestURI().startsWith("/api/") || "OPTIONS".equals(httpRequest.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(waitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            rejected.increment();
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            httpResponse.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            httpResponse.getWriter().write("Server busy, please retry");
+            return;
+        }
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted() && request.getAttribute(HOLD_PERMIT) != null) {
+                request.getAsyncContext().addListener(new PermitRelease());
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Gives the permit back once the async work has finished, whichever way it
+     * ends
+     */
+    private class PermitRelease implements AsyncListener {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Async restarted on a later dispatch: keep listening to the new context
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    private static int poolSize(DataSource dataSource) throws SQLException {
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            if (hikari.getMaximumPoolSize() <= 0) {
+                // Unset until the pool starts and applies its defaults
+                try (Connection connection = hikari.getConnection()) {
+                    connection.isValid(1);
+                }
+            }
+            return hikari.getMaximumPoolSize();
+        }
+        throw new IllegalStateException("Set app.db-admission.permits, the connection pool size is unknown");
+    }
+}
@@ -0,0 +1,58 @@
+package com.game.config;
+
+import com.game.model.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves the id generators past the ids already in use.
+ *
+ * Tables filled while ids were auto-increment columns start with no generator
+ * row, which would make Hibernate hand out ids from 1 again. Runs once the
+ * schema is up to date and before anything inserts.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdGeneratorInitializer {
+
+    // Generator rows are keyed by the table whose ids they allocate
+    private static final List<String> TABLES = List.of("users", "words", "games", "guesses");
+
+    private static final String SELECT_NEXT = "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE
+            + " WHERE " + IdGenerators.NAME_COLUMN + " = ?";
+    private static final String INSERT_NEXT = "INSERT INTO " + IdGenerators.TABLE + " ("
+            + IdGenerators.NAME_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)";
+    private static final String UPDATE_NEXT = "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN
+            + " = ? WHERE " + IdGenerators.NAME_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        for (String table : TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            if (maxId == null) {
+                continue; // empty table, the generator's initial value is fine
+            }
+
+            // The pooled optimizer hands out the block ending at the stored
+            // value, so it must be a whole block above the highest id
+            long next = maxId + IdGenerators.ALLOCATION_SIZE;
+            List<Long> current = jdbcTemplate.queryForList(SELECT_NEXT, Long.class, table);
+            if (current.isEmpty()) {
+                jdbcTemplate.update(INSERT_NEXT, table, next);
+            } else if (current.get(0) < next) {
+                jdbcTemplate.update(UPDATE_NEXT, next, table, next);
+            } else {
+                continue;
+            }
+            System.out.println("Moved " + table + " id generator to " + next);
+        }
+    }
+}
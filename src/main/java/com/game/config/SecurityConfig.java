@@ -1,6 +1,7 @@
 package com.game.config;
 
 import com.game.security.JwtFilter;
+import com.game.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,8 +19,10 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CorsConfigurationSource corsConfigurationSource;
 
+    // The only encoder instance, shared with UserService
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -38,6 +41,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/register", "/api/auth/login").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN") // Only ADMIN
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // Metrics
                         .requestMatchers("/api/player/**").hasRole("PLAYER") // Only PLAYER
                         .requestMatchers("/api/games/**").hasRole("PLAYER") // Game endpoints for PLAYER
                         .anyRequest().authenticated() // Everything else needs auth
@@ -45,6 +49,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+        // After the token is verified, so game routes are limited per user
+        http.addFilterAfter(rateLimitFilter, JwtFilter.class);
         return http.build();
     }
 }
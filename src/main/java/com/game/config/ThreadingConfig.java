@@ -0,0 +1,34 @@
+package com.game.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reports the request threading mode at startup.
+ *
+ * spring.threads.virtual.enabled (VIRTUAL_THREADS=true) runs Tomcat requests,
+ * @Scheduled jobs and the MVC async executor (streamed exports) on virtual
+ * threads. Spring Boot only honours it on Java 21 or later, so build with the
+ * java21 Maven profile and run on a JDK 21; on older runtimes the default
+ * platform thread pools stay in place and a warning is logged.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @PostConstruct
+    public void report() {
+        if (!virtualThreads) {
+            return;
+        }
+        if (Runtime.version().feature() < 21) {
+            System.err.println("Virtual threads need Java 21+, running on Java " + Runtime.version().feature()
+                    + " with platform threads");
+        } else {
+            System.out.println("Handling requests on virtual threads");
+        }
+    }
+}
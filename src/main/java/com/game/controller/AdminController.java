@@ -1,26 +1,69 @@
 package com.game.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.game.config.DataSourceAdmissionFilter;
 import com.game.dto.DailyReportResponse;
-import com.game.dto.UserReportResponse;
 import com.game.dto.GameHistoryResponse;
 import com.game.dto.AddWordRequest;
+import com.game.dto.CacheStatsResponse;
 import com.game.dto.WinReportsResponse;
+import com.game.dto.WordImportResponse;
 import com.game.service.ReportService;
+import com.game.service.CacheStatisticsService;
 import com.game.service.GameService;
+import com.game.service.ExportService;
+import com.game.service.GuessDictionary;
+import com.game.service.WordImportService;
+import com.game.service.RangeReportService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
 public class AdminController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final ReportService reportService;
     private final GameService gameService;
+    private final GuessDictionary guessDictionary;
+    private final RangeReportService rangeReportService;
+    private final ExportService exportService;
+    private final WordImportService wordImportService;
+    private final CacheStatisticsService cacheStatisticsService;
+    private final ObjectMapper objectMapper;
+
+    // Streams run as long as there are rows, so they get their own async timeout
+    // instead of spring.mvc.async.request-timeout; 0 means none
+    @Value("${app.streams.timeout-ms:3600000}")
+    private long streamTimeoutMs;
 
     @GetMapping("/report")
     public String getReport() {
@@ -46,6 +89,40 @@ public class AdminController {
         }
     }
 
+    /**
+     * Import many words at once from a text or CSV upload (request body)
+     * 
+     * @param body words separated by newlines, commas or whitespace
+     * @return accepted, duplicate and rejected counts
+     */
+    @PostMapping(value = "/words/bulk", consumes = { MediaType.TEXT_PLAIN_VALUE, "text/csv" })
+    public ResponseEntity<?> importWords(InputStream body) {
+        try {
+            WordImportResponse result = wordImportService
+                    .importWords(new InputStreamReader(body, StandardCharsets.UTF_8));
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(new ErrorResponse("Failed to import words: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Reload the allowed guesses list without a restart
+     * 
+     * @return success message
+     */
+    @PostMapping("/guesses/reload")
+    public ResponseEntity<?> reloadAllowedGuesses() {
+        try {
+            guessDictionary.reload();
+            return ResponseEntity.ok(new AddWordResponse("Allowed guesses reloaded"));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(new ErrorResponse("Failed to reload allowed guesses: " + e.getMessage()));
+        }
+    }
+
     /**
      * Get daily report for a specific date
      * 
@@ -63,34 +140,94 @@ public class AdminController {
         }
     }
 
+    /**
+     * Get a report series over a date range
+     * 
+     * @param from   first day (format: yyyy-MM-dd)
+     * @param to     last day, inclusive
+     * @param bucket "day" (default) or "week"
+     * @return one daily-report-style entry per bucket
+     */
+    @GetMapping("/reports/range")
+    public ResponseEntity<?> getRangeReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String bucket) {
+        try {
+            List<DailyReportResponse> series = rangeReportService.getRangeReport(from, to, bucket);
+            return ResponseEntity.ok(series);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(new ErrorResponse("Failed to generate range report: " + e.getMessage()));
+        }
+    }
+
     /**
      * Get user-specific report
      * 
      * @param username the username to generate report for
-     * @return user report with game details and statistics
+     * @param from     optional first day (format: yyyy-MM-dd)
+     * @param to       optional last day, inclusive
+     * @return user report with game details and statistics, written to the
+     *         response one day at a time
      */
     @GetMapping("/reports/user/{username}")
-    public ResponseEntity<UserReportResponse> getUserReport(@PathVariable String username) {
+    public ResponseEntity<StreamingResponseBody> getUserReport(@PathVariable String username,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Long userId;
         try {
-            UserReportResponse report = reportService.getUserReport(username);
-            return ResponseEntity.ok(report);
+            userId = reportService.getUserId(username);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
         }
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        prepareStream();
+        // Same shape as UserReportResponse, with gameReports written as they are read
+        StreamingResponseBody body = out -> {
+            BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(buffered)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("username", username);
+            generator.writeArrayFieldStart("gameReports");
+            reportService.streamUserReport(userId, from, to, report -> {
+                try {
+                    writer.writeValue(generator, report);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.close();
+            buffered.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     /**
      * Get detailed game history for a user (admin access to player game history)
      * This includes all guessed words for each game
      * 
+     * With afterId and/or limit, returns one keyset page of games (by game id)
+     * instead of the full history.
+     * 
      * @param username the username to get detailed history for
+     * @param afterId  optional cursor: only games with a larger id
+     * @param limit    optional page size (max 1000)
      * @return complete game history with all guessed words
      */
     @GetMapping("/player-history/{username}")
-    public ResponseEntity<GameHistoryResponse> getPlayerGameHistory(@PathVariable String username) {
+    public ResponseEntity<?> getPlayerGameHistory(@PathVariable String username,
+            @RequestParam(required = false) Long afterId, @RequestParam(required = false) Integer limit) {
         try {
+            if (afterId != null || limit != null) {
+                return ResponseEntity.ok(gameService.getPlayerGameHistoryPage(username, cursor(afterId),
+                        pageSize(limit)));
+            }
             GameHistoryResponse history = gameService.getPlayerGameHistory(username);
             return ResponseEntity.ok(history);
         } catch (IllegalArgumentException e) {
@@ -100,40 +237,162 @@ public class AdminController {
         }
     }
 
+    /**
+     * Stream a player's games with their guesses as newline-delimited JSON
+     * 
+     * @param username the username to get detailed history for
+     * @return one GameDetails object per line, oldest game first
+     */
+    @GetMapping(value = "/player-history/{username}", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamPlayerGameHistory(@PathVariable String username) {
+        try {
+            Long userId = gameService.getUserId(username);
+            return ndjson(sink -> gameService.streamPlayerGameHistory(userId, sink::accept));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Get comprehensive admin reports with all system data
      * 
-     * @return comprehensive reports including all players, games, and statistics
+     * The game reports are one keyset page (by game id); pass nextGameAfterId as
+     * afterId for the next one.
+     * 
+     * @param afterId optional cursor: only games with a larger id
+     * @param limit   optional game page size (max 1000)
+     * @return comprehensive reports including all players, a page of games, and
+     *         statistics
      */
     @GetMapping("/comprehensive-reports")
-    public ResponseEntity<?> getComprehensiveReports() {
+    public ResponseEntity<?> getComprehensiveReports(@RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit) {
         try {
-            var reports = gameService.getComprehensiveAdminReports();
+            var reports = gameService.getComprehensiveAdminReports(cursor(afterId), pageSize(limit));
             return ResponseEntity.ok(reports);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(new ErrorResponse("Failed to generate comprehensive reports: " + e.getMessage()));
         }
     }
 
+    /**
+     * Get one keyset page of the game reports of the comprehensive report (by
+     * game id)
+     * 
+     * @param afterId optional cursor: only games with a larger id
+     * @param limit   optional page size (max 1000)
+     * @return the page of game reports, with the cursor of the next one
+     */
+    @GetMapping("/comprehensive-reports/games")
+    public ResponseEntity<?> getGameReports(@RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(gameService.getGameReportsPage(cursor(afterId), pageSize(limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(new ErrorResponse("Failed to get game reports: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Stream every game report as newline-delimited JSON
+     * 
+     * @return one GameReport object per line, by game id
+     */
+    @GetMapping(value = "/comprehensive-reports/games", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamGameReports() {
+        return ndjson(sink -> gameService.streamGameReports(sink::accept));
+    }
+
     /**
      * Get all player activities and detailed game history - ONLY users who have
      * played games
      * 
+     * With afterId and/or limit, returns one keyset page of players (by user id).
+     * 
+     * @param afterId optional cursor: only players with a larger user id
+     * @param limit   optional page size (max 1000)
      * @return detailed reports of all player activities (excludes users with 0
      *         games)
      */
     @GetMapping("/player-activities")
-    public ResponseEntity<?> getAllPlayerActivities() {
+    public ResponseEntity<?> getAllPlayerActivities(@RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit) {
         try {
+            if (afterId != null || limit != null) {
+                return ResponseEntity.ok(gameService.getPlayerActivitiesPage(cursor(afterId), pageSize(limit)));
+            }
             var activities = gameService.getAllPlayerActivities();
             return ResponseEntity.ok(activities);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(new ErrorResponse("Failed to get player activities: " + e.getMessage()));
         }
     }
 
+    /**
+     * Stream every player activity as newline-delimited JSON
+     * 
+     * @return one PlayerReport object per line, by user id
+     */
+    @GetMapping(value = "/player-activities", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamPlayerActivities() {
+        return ndjson(sink -> gameService.streamPlayerActivities(sink::accept));
+    }
+
+    /**
+     * Export games as a file download, streamed as rows are read
+     * 
+     * @param format "csv" (default) or "ndjson"
+     * @param gzip   gzip the file on the fly
+     * @param from   optional first day played (format: yyyy-MM-dd)
+     * @param to     optional last day played, inclusive
+     * @return one row per game, by game id
+     */
+    @GetMapping("/export/games")
+    public ResponseEntity<StreamingResponseBody> exportGames(@RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            ExportService.Format exportFormat = ExportService.Format.parse(format);
+            return export("games", exportFormat, gzip,
+                    out -> exportService.exportGames(from, to, exportFormat, gzip, out));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Export guesses as a file download, streamed as rows are read
+     * 
+     * @param format "csv" (default) or "ndjson"
+     * @param gzip   gzip the file on the fly
+     * @param from   optional first day the game was played (format: yyyy-MM-dd)
+     * @param to     optional last day the game was played, inclusive
+     * @return one row per guess, by guess id
+     */
+    @GetMapping("/export/guesses")
+    public ResponseEntity<StreamingResponseBody> exportGuesses(@RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            ExportService.Format exportFormat = ExportService.Format.parse(format);
+            return export("guesses", exportFormat, gzip,
+                    out -> exportService.exportGuesses(from, to, exportFormat, gzip, out));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Get players filtered by daily game count
      * 
@@ -175,6 +434,22 @@ public class AdminController {
         }
     }
 
+    /**
+     * Get hit and miss counts of the user and word caches, to size them
+     * 
+     * @return one entry per cache region with its hit ratio
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> getCacheStatistics() {
+        try {
+            List<CacheStatsResponse> stats = cacheStatisticsService.getCacheStatistics();
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body(new ErrorResponse("Failed to get cache statistics: " + e.getMessage()));
+        }
+    }
+
     /**
      * Get players who won games with specific guess count (1-5 guesses)
      * This helps analyze which players are winning most efficiently
@@ -215,6 +490,74 @@ public class AdminController {
         }
     }
 
+    private static long cursor(Long afterId) {
+        return afterId != null ? afterId : 0L;
+    }
+
+    private static int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return limit;
+    }
+
+    /**
+     * Write the rows a producer emits as newline-delimited JSON, directly to the
+     * response as they are read
+     */
+    private ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<Object>> producer) {
+        ObjectWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        prepareStream();
+        StreamingResponseBody body = out -> {
+            BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+            producer.accept(row -> {
+                try {
+                    writer.writeValue(buffered, row);
+                    buffered.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            buffered.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, ExportService.Format format,
+            boolean gzip, StreamingResponseBody body) {
+        prepareStream();
+        String extension = format == ExportService.Format.CSV ? ".csv" : ".ndjson";
+        MediaType type = gzip ? MediaType.parseMediaType("application/gzip")
+                : format == ExportService.Format.CSV ? MediaType.parseMediaType("text/csv")
+                        : MediaType.parseMediaType(NDJSON);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + extension + (gzip ? ".gz" : "") + "\"")
+                .contentType(type)
+                .body(body);
+    }
+
+    /**
+     * Replace the default async timeout of the current request with the stream
+     * timeout, and keep its admission permit while the body streams; must run
+     * before the handler returns the streaming body
+     */
+    private void prepareStream() {
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+                .getRequest();
+        request.setAttribute(DataSourceAdmissionFilter.HOLD_PERMIT, Boolean.TRUE);
+        AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncRequest != null) {
+            // The servlet container treats a timeout of zero or less as none
+            asyncRequest.setTimeout(streamTimeoutMs > 0 ? streamTimeoutMs : -1L);
+        }
+    }
+
     /**
      * Response classes for word management and filtering
      */
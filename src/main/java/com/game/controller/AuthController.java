@@ -1,17 +1,25 @@
 package com.game.controller;
 
 import com.game.dto.*;
+import com.game.security.JwtUtil;
+import com.game.service.TooManyRequestsException;
 import com.game.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final UserService userService;
+    private final JwtUtil jwtUtil;
 
     @PostMapping("/register")
     public ResponseEntity<String> register(@RequestBody RegisterRequest request) {
@@ -31,15 +39,48 @@ public class AuthController {
         }
     }
 
+    /**
+     * Log in. The password check runs on the hashing pool and the request thread
+     * is released meanwhile; throttled or excess attempts get 429 with
+     * Retry-After.
+     * 
+     * @param request the credentials
+     * @return the token and role
+     */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest request) {
         try {
-            AuthResponse response = userService.login(request);
-            return ResponseEntity.ok(response);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+            return userService.loginAsync(request)
+                    .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                    .exceptionally(AuthController::loginFailed);
+        } catch (TooManyRequestsException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body("Error: " + e.getMessage()));
         } catch (Exception e) {
-            return ResponseEntity.internalServerError().body("Login failed: " + e.getMessage());
+            return CompletableFuture.completedFuture(loginFailed(e));
+        }
+    }
+
+    /**
+     * Revoke the presented token, so it is rejected until it would have expired
+     * 
+     * @param authHeader "Bearer " followed by the token
+     * @return success message
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader) {
+        if (!authHeader.startsWith("Bearer ") || !jwtUtil.revoke(authHeader.substring(7))) {
+            return ResponseEntity.badRequest().body("Error: Invalid token");
+        }
+        return ResponseEntity.ok("Logged out");
+    }
+
+    private static ResponseEntity<?> loginFailed(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof IllegalArgumentException) {
+            return ResponseEntity.badRequest().body("Error: " + cause.getMessage());
         }
+        return ResponseEntity.internalServerError().body("Login failed: " + cause.getMessage());
     }
 }
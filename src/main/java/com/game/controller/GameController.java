@@ -1,12 +1,11 @@
 package com.game.controller;
 
 import com.game.dto.*;
+import com.game.security.GamePrincipal;
 import com.game.security.JwtUtil;
 import com.game.service.GameService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -26,12 +25,11 @@ public class GameController {
     @PostMapping("/start")
     public ResponseEntity<?> startGame() {
         try {
-            // Get authenticated username from security context
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String username = authentication.getName();
+            // Get the authenticated player (id, username, role) from the security context
+            GamePrincipal player = GamePrincipal.current();
 
             // Start a new game
-            GameStartResponse response = gameService.startNewGame(username);
+            GameStartResponse response = gameService.startNewGame(player);
             return ResponseEntity.ok(response);
 
         } catch (IllegalStateException e) {
@@ -54,12 +52,11 @@ public class GameController {
     @PostMapping("/guess")
     public ResponseEntity<?> submitGuess(@RequestBody GuessRequest request) {
         try {
-            // Get authenticated username from security context
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String username = authentication.getName();
+            // Get the authenticated player (id, username, role) from the security context
+            GamePrincipal player = GamePrincipal.current();
 
             // Submit the guess
-            GuessResponse response = gameService.submitGuess(username, request);
+            GuessResponse response = gameService.submitGuess(player, request);
             return ResponseEntity.ok(response);
 
         } catch (IllegalArgumentException | IllegalStateException e) {
@@ -82,12 +79,11 @@ public class GameController {
     @GetMapping("/status/{gameId}")
     public ResponseEntity<?> getGameStatus(@PathVariable Long gameId) {
         try {
-            // Get authenticated username from security context
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String username = authentication.getName();
+            // Get the authenticated player (id, username, role) from the security context
+            GamePrincipal player = GamePrincipal.current();
 
             // Get game status
-            GameStatusResponse response = gameService.getGameStatus(username, gameId);
+            GameStatusResponse response = gameService.getGameStatus(player, gameId);
             return ResponseEntity.ok(response);
 
         } catch (IllegalArgumentException e) {
@@ -1,11 +1,10 @@
 package com.game.controller;
 
 import com.game.dto.PlayerStatsResponse;
+import com.game.security.GamePrincipal;
 import com.game.service.GameService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -30,11 +29,10 @@ public class PlayerController {
     @GetMapping("/stats")
     public ResponseEntity<?> getPlayerStats() {
         try {
-            // Get authenticated username from security context
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String username = authentication.getName();
+            // Get the authenticated player (id, username, role) from the security context
+            GamePrincipal player = GamePrincipal.current();
 
-            PlayerStatsResponse stats = gameService.getPlayerStats(username);
+            PlayerStatsResponse stats = gameService.getPlayerStats(player);
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
@@ -50,10 +48,10 @@ public class PlayerController {
     @GetMapping("/history")
     public ResponseEntity<?> getGameHistory() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String username = authentication.getName();
+            // Get the authenticated player (id, username, role) from the security context
+            GamePrincipal player = GamePrincipal.current();
 
-            var history = gameService.getPlayerGameHistory(username);
+            var history = gameService.getPlayerGameHistory(player);
             return ResponseEntity.ok(history);
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
@@ -69,10 +67,10 @@ public class PlayerController {
     @GetMapping("/daily-status")
     public ResponseEntity<?> getDailyGameStatus() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String username = authentication.getName();
+            // Get the authenticated player (id, username, role) from the security context
+            GamePrincipal player = GamePrincipal.current();
 
-            var dailyStatus = gameService.getPlayerDailyStatus(username);
+            var dailyStatus = gameService.getPlayerDailyStatus(player);
             return ResponseEntity.ok(dailyStatus);
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
@@ -16,6 +16,8 @@ public class AdminReportsResponse {
     private List<GameReport> gameReports;
     private List<UserRegistration> recentRegistrations;
     private SystemStatistics systemStatistics;
+    // Pass as afterId for the next page of gameReports; null on the last page
+    private Long nextGameAfterId;
 
     @Data
     @NoArgsConstructor
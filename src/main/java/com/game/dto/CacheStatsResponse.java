@@ -0,0 +1,17 @@
+package com.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private String region; // Hibernate cache region, e.g. "users"
+    private long hits;
+    private long misses;
+    private long puts;
+    private long evictions; // Entries dropped to stay within the region's size
+    private double hitRatio; // hits / (hits + misses), 0 before the first lookup
+}
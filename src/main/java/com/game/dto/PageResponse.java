@@ -0,0 +1,19 @@
+package com.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One keyset page of a listing. Pass {@code nextAfterId} as {@code afterId} to
+ * get the following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+    private List<T> items;
+    private Long nextAfterId;
+}
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,4 +17,5 @@ public class PlayerStatsResponse {
     private int currentStreak;
     private int longestStreak;
     private double averageGuesses;
+    private List<Integer> guessDistribution; // wins taking 1..5 guesses
 }
\ No newline at end of file
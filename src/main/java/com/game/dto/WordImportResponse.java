@@ -0,0 +1,14 @@
+package com.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordImportResponse {
+    private int accepted; // New words inserted
+    private int duplicates; // Already in the dictionary or repeated in the upload
+    private int rejected; // Not five letters
+}
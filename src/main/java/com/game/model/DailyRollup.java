@@ -0,0 +1,43 @@
+package com.game.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Precomputed totals of the games played on one day, so reports on past days
+ * are a single row read.
+ */
+@Entity
+@Table(name = "daily_rollup")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRollup {
+
+    @Id
+    @Column(name = "rollup_date")
+    private LocalDate date;
+
+    @Column(name = "total_users", nullable = false)
+    private int totalUsers;
+
+    @Column(name = "total_games", nullable = false)
+    private int totalGames;
+
+    @Column(name = "games_won", nullable = false)
+    private int gamesWon;
+
+    @Column(name = "games_lost", nullable = false)
+    private int gamesLost;
+
+    @Column(name = "total_guesses", nullable = false)
+    private long totalGuesses;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
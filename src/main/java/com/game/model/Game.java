@@ -3,27 +3,41 @@ package com.game.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Entity
-@Table(name = "games")
+@Table(name = "games", indexes = {
+        @Index(name = "idx_games_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_games_date_played", columnList = "date_played"),
+        @Index(name = "idx_games_user_date", columnList = "user_id, date_played") })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Game {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "games_id")
+    @TableGenerator(name = "games_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "games",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "word_id", nullable = true) // Allow null until first guess
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Word word;
 
     @Column(name = "date_played", nullable = false)
@@ -35,8 +49,48 @@ public class Game {
     @Column(name = "remaining_guesses", nullable = false)
     private Integer remainingGuesses = 5;
 
+    // Maintained with every guess so reports never count guesses per game.
+    // Nullable only for rows from before the columns existed (see GameBackfillJob)
+    @Column(name = "guess_count")
+    private Integer guessCount = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 16)
+    private Status status = Status.NEW;
+
+    // All guesses packed into one column when app.games.guess-storage=inline;
+    // null for games whose guesses are only in the guesses table
+    @Convert(converter = GuessLogConverter.class)
+    @Column(name = "guess_log", length = GuessLog.MAX_BYTES)
+    private GuessLog guessLog;
+
+    // Optimistic lock guarding concurrent writers of the same game
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     // Helper method to track game completion
     public boolean isCompleted() {
         return isWon != null;
     }
+
+    public enum Status {
+        NEW, IN_PROGRESS, WON, LOST;
+
+        // Games with at least one guess made
+        public static final Set<Status> PLAYED = EnumSet.of(IN_PROGRESS, WON, LOST);
+
+        public static Status of(int guessCount, Boolean isWon) {
+            if (isWon != null) {
+                return isWon ? WON : LOST;
+            }
+            return guessCount > 0 ? IN_PROGRESS : NEW;
+        }
+
+        // The stored status, or for legacy rows the backfill has not reached yet
+        // (no status), the one derived from the guess count and result
+        public static Status of(Status stored, Integer guessCount, Boolean isWon) {
+            return stored != null ? stored : of(guessCount != null ? guessCount : 0, isWon);
+        }
+    }
 }
\ No newline at end of file
@@ -3,23 +3,31 @@ package com.game.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "guesses")
+@Table(name = "guesses", uniqueConstraints = @UniqueConstraint(name = "uk_guesses_game_number", columnNames = {
+        "game_id", "guess_number" }))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Guess {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "guesses_id")
+    @TableGenerator(name = "guesses_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "guesses",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "game_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Game game;
 
     @Column(name = "guessed_word", nullable = false, length = 5)
@@ -0,0 +1,107 @@
+package com.game.model;
+
+import java.util.Arrays;
+
+/**
+ * All guesses of a game packed into a few bytes, for inline storage on
+ * {@link Game} (see {@link GuessLogConverter}).
+ *
+ * Each guess takes 5 bytes, little-endian: the packed word in the low 25
+ * bits (5 bits per letter, as in FeedbackEngine) and the packed feedback in
+ * the next 10 bits (2 bits per position). Guess numbers are implied by the
+ * order, so a full game of 5 guesses is 25 bytes. Instances are immutable.
+ */
+public final class GuessLog {
+
+    public static final int MAX_GUESSES = 5;
+    public static final int BYTES_PER_GUESS = 5;
+    public static final int MAX_BYTES = MAX_GUESSES * BYTES_PER_GUESS;
+
+    public static final GuessLog EMPTY = new GuessLog(new long[0]);
+
+    private static final int WORD_BITS = 25;
+    private static final long WORD_MASK = (1L << WORD_BITS) - 1;
+    private static final long FEEDBACK_MASK = (1L << 10) - 1;
+
+    private final long[] entries;
+
+    private GuessLog(long[] entries) {
+        this.entries = entries;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * @return the packed word of the guess at an index (guess number - 1)
+     */
+    public int word(int index) {
+        return (int) (entries[index] & WORD_MASK);
+    }
+
+    /**
+     * @return the packed feedback of the guess at an index (guess number - 1)
+     */
+    public int feedback(int index) {
+        return (int) ((entries[index] >>> WORD_BITS) & FEEDBACK_MASK);
+    }
+
+    /**
+     * Log with one more guess
+     *
+     * @throws IllegalStateException if the log already holds 5 guesses
+     */
+    public GuessLog append(int word, int feedback) {
+        if (entries.length == MAX_GUESSES) {
+            throw new IllegalStateException("A game has at most " + MAX_GUESSES + " guesses");
+        }
+        long[] appended = Arrays.copyOf(entries, entries.length + 1);
+        appended[entries.length] = (word & WORD_MASK) | ((feedback & FEEDBACK_MASK) << WORD_BITS);
+        return new GuessLog(appended);
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[entries.length * BYTES_PER_GUESS];
+        for (int i = 0; i < entries.length; i++) {
+            for (int b = 0; b < BYTES_PER_GUESS; b++) {
+                bytes[i * BYTES_PER_GUESS + b] = (byte) (entries[i] >>> (b * 8));
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are not a whole number of
+     *                                  guesses, or more than 5
+     */
+    public static GuessLog fromBytes(byte[] bytes) {
+        if (bytes.length % BYTES_PER_GUESS != 0 || bytes.length > MAX_BYTES) {
+            throw new IllegalArgumentException("Invalid guess log of " + bytes.length + " bytes");
+        }
+        long[] entries = new long[bytes.length / BYTES_PER_GUESS];
+        for (int i = 0; i < entries.length; i++) {
+            long entry = 0;
+            for (int b = 0; b < BYTES_PER_GUESS; b++) {
+                entry |= (bytes[i * BYTES_PER_GUESS + b] & 0xFFL) << (b * 8);
+            }
+            entries[i] = entry;
+        }
+        return new GuessLog(entries);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof GuessLog log && Arrays.equals(entries, log.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(entries);
+    }
+
+    @Override
+    public String toString() {
+        return "GuessLog[" + entries.length + " guesses]";
+    }
+}
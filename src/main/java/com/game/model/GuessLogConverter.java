@@ -0,0 +1,21 @@
+package com.game.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a {@link GuessLog} as its packed bytes
+ */
+@Converter
+public class GuessLogConverter implements AttributeConverter<GuessLog, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(GuessLog log) {
+        return log != null ? log.toBytes() : null;
+    }
+
+    @Override
+    public GuessLog convertToEntityAttribute(byte[] bytes) {
+        return bytes != null ? GuessLog.fromBytes(bytes) : null;
+    }
+}
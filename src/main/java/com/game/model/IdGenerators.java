@@ -0,0 +1,22 @@
+package com.game.model;
+
+/**
+ * Settings shared by the table-backed id generators of the entities.
+ *
+ * Ids are allocated from one row per table in {@link #TABLE}, a block of
+ * {@link #ALLOCATION_SIZE} at a time, so inserts never need the database to
+ * hand back a generated key and Hibernate can batch them. Works the same on
+ * MySQL and H2.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    // Ids reserved per round trip to the generator table; matches the JDBC batch size
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
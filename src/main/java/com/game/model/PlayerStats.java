@@ -0,0 +1,58 @@
+package com.game.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running statistics of a player, updated incrementally each time one of their
+ * games ends so the stats endpoint is a primary-key read.
+ */
+@Entity
+@Table(name = "player_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "total_games", nullable = false)
+    private int totalGames;
+
+    @Column(name = "games_won", nullable = false)
+    private int gamesWon;
+
+    @Column(name = "current_streak", nullable = false)
+    private int currentStreak;
+
+    @Column(name = "longest_streak", nullable = false)
+    private int longestStreak;
+
+    // Sum of guesses over won games, for the average
+    @Column(name = "won_guess_sum", nullable = false)
+    private long wonGuessSum;
+
+    // Guess distribution: number of wins taking 1..5 guesses
+    @Column(name = "wins_in_1", nullable = false)
+    private int winsIn1;
+
+    @Column(name = "wins_in_2", nullable = false)
+    private int winsIn2;
+
+    @Column(name = "wins_in_3", nullable = false)
+    private int winsIn3;
+
+    @Column(name = "wins_in_4", nullable = false)
+    private int winsIn4;
+
+    @Column(name = "wins_in_5", nullable = false)
+    private int winsIn5;
+
+    public PlayerStats(Long userId) {
+        this.userId = userId;
+    }
+}
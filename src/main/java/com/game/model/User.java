@@ -2,18 +2,24 @@ package com.game.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "users",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 50)
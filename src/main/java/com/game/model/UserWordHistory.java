@@ -0,0 +1,26 @@
+package com.game.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Words a user has already been given, stored as a compact serialized
+ * {@link com.game.service.SeenWordSet} of word ids keyed by user id.
+ */
+@Entity
+@Table(name = "user_word_history")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserWordHistory {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Lob
+    @Column(name = "seen_word_ids")
+    private byte[] seenWordIds;
+}
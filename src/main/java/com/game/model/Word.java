@@ -4,16 +4,25 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
+// Words are only ever inserted, so cached copies never go stale
 @Entity
 @Table(name = "words")
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "words")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Word {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "words_id")
+    @TableGenerator(name = "words_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "words",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 5, unique = true)
@@ -0,0 +1,19 @@
+package com.game.repository;
+
+import com.game.model.DailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface DailyRollupRepository extends JpaRepository<DailyRollup, LocalDate> {
+
+    // Drop a stored day, if any, in a single statement
+    @Modifying
+    @Query("DELETE FROM DailyRollup r WHERE r.date = :date")
+    int deleteByDate(@Param("date") LocalDate date);
+}
@@ -0,0 +1,12 @@
+package com.game.repository;
+
+import com.game.model.GuessLog;
+
+import java.time.LocalDate;
+
+/**
+ * A game of a player's history with its inline guess log
+ */
+public record GameLogRow(Long gameId, LocalDate datePlayed, Long wordId, String word, Boolean isWon,
+        Integer remainingGuesses, GuessLog guessLog) {
+}
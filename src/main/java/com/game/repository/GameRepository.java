@@ -1,14 +1,27 @@
 package com.game.repository;
 
 import com.game.model.Game;
+import com.game.model.GuessLog;
 import com.game.model.User;
+import com.game.model.Word;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface GameRepository extends JpaRepository<Game, Long> {
@@ -20,9 +33,109 @@ public interface GameRepository extends JpaRepository<Game, Long> {
     @Query("SELECT g FROM Game g WHERE g.user = :user AND g.isWon IS NOT NULL")
     List<Game> findCompletedGamesByUser(@Param("user") User user);
 
-    // Count games played by a user on a specific date
-    @Query("SELECT COUNT(g) FROM Game g WHERE g.user = :user AND g.datePlayed = :date")
-    int countGamesPlayedToday(@Param("user") User user, @Param("date") LocalDate date);
+    // Result, guess count and remaining guesses of a user's completed games, in
+    // the order they were played
+    @Query("SELECT g.isWon, g.guessCount, g.remainingGuesses FROM Game g " +
+            "WHERE g.user.id = :userId AND g.isWon IS NOT NULL ORDER BY g.datePlayed, g.id")
+    List<Object[]> findResultsByUser(@Param("userId") Long userId);
+
+    // Load a game with its word in one select, for the session cache; the
+    // player is only needed by id, which the (unloaded) user reference holds
+    @Query("SELECT g FROM Game g LEFT JOIN FETCH g.word WHERE g.id = :id")
+    Optional<Game> findWithWordById(@Param("id") Long id);
+
+    // One summary per game in the given statuses, for admin reports
+    String GAME_SUMMARY_QUERY = "SELECT new com.game.repository.GameSummary(g.id, u.id, u.username, w.id, w.word, " +
+            "g.datePlayed, g.isWon, g.guessCount) FROM Game g JOIN g.user u JOIN g.word w WHERE g.status IN :statuses";
+
+    @Query(GAME_SUMMARY_QUERY + " ORDER BY g.id")
+    List<GameSummary> findGameSummariesByStatus(@Param("statuses") Collection<Game.Status> statuses);
+
+    // Keyset page of the above
+    @Query(GAME_SUMMARY_QUERY + " AND g.id > :afterId ORDER BY g.id")
+    List<GameSummary> findGameSummariesAfter(@Param("statuses") Collection<Game.Status> statuses,
+            @Param("afterId") long afterId, Pageable pageable);
+
+    // All of the above as a stream. Must be consumed in a transaction
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query(GAME_SUMMARY_QUERY + " ORDER BY g.id")
+    Stream<GameSummary> streamGameSummaries(@Param("statuses") Collection<Game.Status> statuses);
+
+    // Activity of users over their games in the given statuses: user id, username,
+    // role, created at, games, wins, last played
+    String USER_ACTIVITY_QUERY = "SELECT u.id, u.username, u.role, u.createdAt, COUNT(g), " +
+            "SUM(CASE WHEN g.isWon = true THEN 1 ELSE 0 END), MAX(g.datePlayed) " +
+            "FROM Game g JOIN g.user u WHERE g.status IN :statuses";
+    String PLAYER_ACTIVITY_QUERY = USER_ACTIVITY_QUERY + " AND u.role = :role";
+    String PLAYER_ACTIVITY_GROUPING = " GROUP BY u.id, u.username, u.role, u.createdAt ORDER BY u.id";
+
+    @Query(USER_ACTIVITY_QUERY + PLAYER_ACTIVITY_GROUPING)
+    List<Object[]> findUserActivity(@Param("statuses") Collection<Game.Status> statuses);
+
+    @Query(PLAYER_ACTIVITY_QUERY + " AND u.id > :afterId" + PLAYER_ACTIVITY_GROUPING)
+    List<Object[]> findPlayerActivityAfter(@Param("statuses") Collection<Game.Status> statuses,
+            @Param("role") User.Role role, @Param("afterId") long afterId, Pageable pageable);
+
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query(PLAYER_ACTIVITY_QUERY + PLAYER_ACTIVITY_GROUPING)
+    Stream<Object[]> streamPlayerActivity(@Param("statuses") Collection<Game.Status> statuses,
+            @Param("role") User.Role role);
+
+    // Summaries of the games with at least one guess made
+    default List<GameSummary> findPlayedGameSummaries() {
+        return findGameSummariesByStatus(Game.Status.PLAYED);
+    }
+
+    // Users created since a time with their number of games in any status:
+    // username, role, created at, games
+    @Query("SELECT u.username, u.role, u.createdAt, COUNT(g) FROM User u LEFT JOIN Game g ON g.user = u " +
+            "WHERE u.createdAt >= :since GROUP BY u.id, u.username, u.role, u.createdAt ORDER BY u.id")
+    List<Object[]> findRegistrationsSince(@Param("since") LocalDateTime since);
+
+    // Users and their games in the given statuses, one row per role: role, users,
+    // games, completed, won, lost, games played on the date
+    @Query("SELECT u.role, COUNT(DISTINCT u.id), COUNT(g), " +
+            "SUM(CASE WHEN g.isWon IS NOT NULL THEN 1 ELSE 0 END), SUM(CASE WHEN g.isWon = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.isWon = false THEN 1 ELSE 0 END), SUM(CASE WHEN g.datePlayed = :date THEN 1 ELSE 0 END) " +
+            "FROM User u LEFT JOIN Game g ON g.user = u AND g.status IN :statuses GROUP BY u.role")
+    List<Object[]> aggregateByRole(@Param("statuses") Collection<Game.Status> statuses,
+            @Param("date") LocalDate date);
+
+    // Totals of one day's games (users, games, won, lost, guesses); a single row
+    @Query("SELECT COUNT(DISTINCT g.user.id), COUNT(g), " +
+            "SUM(CASE WHEN g.isWon = true THEN 1 ELSE 0 END), SUM(CASE WHEN g.isWon = false THEN 1 ELSE 0 END), " +
+            "SUM(g.guessCount) FROM Game g WHERE g.datePlayed = :date")
+    List<Object[]> aggregateDay(@Param("date") LocalDate date);
+
+    // Keyset page of report rows up to a date, after the (date played, id) position. Walks
+    // idx_games_date_played, which gives the (date played, id) order; each row is still a
+    // lookup into the clustered index. Start with the first day and id 0
+    @Query("SELECT g.id, g.user.id, g.datePlayed, g.isWon, g.guessCount FROM Game g " +
+            "WHERE g.datePlayed BETWEEN :afterDate AND :to AND (g.datePlayed > :afterDate OR g.id > :afterId) " +
+            "ORDER BY g.datePlayed, g.id")
+    List<Object[]> findReportRowsAfter(@Param("afterDate") LocalDate afterDate, @Param("afterId") long afterId,
+            @Param("to") LocalDate to, Pageable pageable);
+
+    // A user's games in a date range, newest day first (uses idx_games_user_date):
+    // id, date played, result, guess count, word, status. Must be consumed in a
+    // transaction
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query("SELECT g.id, g.datePlayed, g.isWon, g.guessCount, w.word, g.status FROM Game g LEFT JOIN g.word w " +
+            "WHERE g.user.id = :userId AND g.datePlayed BETWEEN :from AND :to ORDER BY g.datePlayed DESC, g.id")
+    Stream<Object[]> streamUserGames(@Param("userId") Long userId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // Export rows of the games played in a date range, in id order: id, username,
+    // date played, status, result, guess count, remaining guesses, word.
+    // Must be consumed in a transaction
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query("SELECT g.id, u.username, g.datePlayed, g.status, g.isWon, g.guessCount, g.remainingGuesses, w.word " +
+            "FROM Game g JOIN g.user u LEFT JOIN g.word w WHERE g.datePlayed BETWEEN :from AND :to ORDER BY g.id")
+    Stream<Object[]> streamGamesForExport(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Count games played per user on a specific date (userId, count)
+    @Query("SELECT g.user.id, COUNT(g) FROM Game g WHERE g.datePlayed = :date GROUP BY g.user.id")
+    List<Object[]> countGamesPerUserOn(@Param("date") LocalDate date);
 
     // Find users who won games within specified number of guesses
     @Query("SELECT g.user FROM Game g WHERE g.isWon = true AND (5 - g.remainingGuesses) = :guessCount GROUP BY g.user")
@@ -50,4 +163,83 @@ public interface GameRepository extends JpaRepository<Game, Long> {
 
     // Find all games by user
     List<Game> findByUser(User user);
+
+    // Word ids of the games a user has actually played (at least one guess made)
+    @Query("SELECT DISTINCT g.word.id FROM Game g WHERE g.user.id = :userId AND g.status IN :statuses")
+    List<Long> findWordIdsByUserAndStatus(@Param("userId") Long userId,
+            @Param("statuses") Collection<Game.Status> statuses);
+
+    default List<Long> findPlayedWordIdsByUser(Long userId) {
+        return findWordIdsByUserAndStatus(userId, Game.Status.PLAYED);
+    }
+
+    // Write-behind update of a game's mutable state (single statement, no select).
+    // Only applies if the row is still at the expected version (legacy rows have none)
+    String UPDATE_PROGRESS = "UPDATE Game g SET g.word = :word, g.remainingGuesses = :remainingGuesses, " +
+            "g.isWon = :isWon, g.guessCount = :guessCount, g.status = :status, g.version = :version + 1";
+    String UPDATE_PROGRESS_CONDITION = " WHERE g.id = :id AND COALESCE(g.version, 0) = :version";
+
+    @Modifying
+    @Query(UPDATE_PROGRESS + UPDATE_PROGRESS_CONDITION)
+    int updateProgress(@Param("id") Long id, @Param("word") Word word,
+            @Param("remainingGuesses") int remainingGuesses, @Param("isWon") Boolean isWon,
+            @Param("guessCount") int guessCount, @Param("status") Game.Status status,
+            @Param("version") long version);
+
+    // The above, also replacing the inline guess log
+    @Modifying
+    @Query(UPDATE_PROGRESS + ", g.guessLog = :guessLog" + UPDATE_PROGRESS_CONDITION)
+    int updateProgressWithLog(@Param("id") Long id, @Param("word") Word word,
+            @Param("remainingGuesses") int remainingGuesses, @Param("isWon") Boolean isWon,
+            @Param("guessCount") int guessCount, @Param("status") Game.Status status,
+            @Param("version") long version, @Param("guessLog") GuessLog guessLog);
+
+    // Games of a user in the given statuses with their inline guess logs
+    String GAME_LOG_QUERY = "SELECT new com.game.repository.GameLogRow(g.id, g.datePlayed, w.id, w.word, g.isWon, " +
+            "g.remainingGuesses, g.guessLog) FROM Game g JOIN g.word w " +
+            "WHERE g.user.id = :userId AND g.status IN :statuses";
+
+    @Query(GAME_LOG_QUERY + " AND g.id > :afterId ORDER BY g.id")
+    List<GameLogRow> findGameLogsAfter(@Param("userId") Long userId,
+            @Param("statuses") Collection<Game.Status> statuses, @Param("afterId") long afterId, Pageable pageable);
+
+    // Must be consumed in a transaction
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query(GAME_LOG_QUERY + " ORDER BY g.id")
+    Stream<GameLogRow> streamGameLogs(@Param("userId") Long userId,
+            @Param("statuses") Collection<Game.Status> statuses);
+
+    // Export rows of the inline guess logs of games played in a date range, in
+    // id order: game id, username, guess log. Must be consumed in a transaction
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query("SELECT g.id, u.username, g.guessLog FROM Game g JOIN g.user u " +
+            "WHERE g.datePlayed BETWEEN :from AND :to AND g.guessLog IS NOT NULL ORDER BY g.id")
+    Stream<Object[]> streamGuessLogsForExport(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Migration of guesses rows into inline logs; never replaces a log written since
+    @Modifying
+    @Query("UPDATE Game g SET g.guessLog = :guessLog WHERE g.id = :id AND g.guessLog IS NULL")
+    int migrateGuessLog(@Param("id") Long id, @Param("guessLog") GuessLog guessLog);
+
+    // Games that may have guess rows but no log; a null guess count is a legacy game
+    // that has not been backfilled yet
+    @Query("SELECT MIN(g.id), MAX(g.id) FROM Game g WHERE g.guessLog IS NULL " +
+            "AND (g.guessCount IS NULL OR g.guessCount > 0)")
+    List<Object[]> findGuessLogMigrationRange();
+
+    // Backfill of guess_count/status for rows created before the columns existed,
+    // one id range at a time to keep transactions short
+    @Modifying
+    @Query(value = "UPDATE games SET guess_count = (SELECT COUNT(*) FROM guesses gu WHERE gu.game_id = games.id) " +
+            "WHERE guess_count IS NULL AND id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int backfillGuessCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Modifying
+    @Query(value = "UPDATE games SET status = CASE WHEN is_won = TRUE THEN 'WON' WHEN is_won = FALSE THEN 'LOST' " +
+            "WHEN guess_count > 0 THEN 'IN_PROGRESS' ELSE 'NEW' END " +
+            "WHERE status IS NULL AND guess_count IS NOT NULL AND id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int backfillStatuses(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("SELECT MIN(g.id), MAX(g.id) FROM Game g WHERE g.guessCount IS NULL OR g.status IS NULL")
+    List<Object[]> findBackfillRange();
 }
\ No newline at end of file
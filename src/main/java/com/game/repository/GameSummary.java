@@ -0,0 +1,10 @@
+package com.game.repository;
+
+import java.time.LocalDate;
+
+/**
+ * A game as shown in admin reports, read without loading entities
+ */
+public record GameSummary(Long gameId, Long userId, String username, Long wordId, String word,
+        LocalDate datePlayed, Boolean isWon, Integer guessCount) {
+}
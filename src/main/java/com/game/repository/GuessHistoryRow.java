@@ -0,0 +1,10 @@
+package com.game.repository;
+
+import java.time.LocalDate;
+
+/**
+ * One guess of a player's game history, with the state of its game
+ */
+public record GuessHistoryRow(Long gameId, LocalDate datePlayed, Long wordId, String word, Boolean isWon,
+        Integer remainingGuesses, Integer guessNumber, String guessedWord, String feedback) {
+}
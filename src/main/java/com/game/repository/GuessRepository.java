@@ -2,12 +2,20 @@ package com.game.repository;
 
 import com.game.model.Game;
 import com.game.model.Guess;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface GuessRepository extends JpaRepository<Guess, Long> {
@@ -15,7 +23,32 @@ public interface GuessRepository extends JpaRepository<Guess, Long> {
     // Find all guesses for a specific game, ordered by guess number
     List<Guess> findByGameOrderByGuessNumber(Game game);
 
-    // Count guesses for a specific game
-    @Query("SELECT COUNT(g) FROM Guess g WHERE g.game = :game")
-    int countGuessesByGame(@Param("game") Game game);
-}
\ No newline at end of file
+    // Game history rows, one per guess, grouped by game; games with an inline
+    // guess log are read from the log instead
+    String HISTORY_QUERY = "SELECT new com.game.repository.GuessHistoryRow(g.id, g.datePlayed, w.id, w.word, " +
+            "g.isWon, g.remainingGuesses, gu.guessNumber, gu.guessedWord, gu.feedback) " +
+            "FROM Guess gu JOIN gu.game g JOIN g.word w WHERE g.user.id = :userId AND g.guessLog IS NULL";
+
+    @Query(HISTORY_QUERY + " AND g.id IN :gameIds ORDER BY g.id, gu.guessNumber")
+    List<GuessHistoryRow> findHistoryRows(@Param("userId") Long userId, @Param("gameIds") Collection<Long> gameIds);
+
+    // Must be consumed in a transaction
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query(HISTORY_QUERY + " ORDER BY g.id, gu.guessNumber")
+    Stream<GuessHistoryRow> streamHistoryRows(@Param("userId") Long userId);
+
+    // Guesses of the games in an id range that have no inline log yet, grouped by
+    // game: game id, guessed word, feedback
+    @Query("SELECT g.id, gu.guessedWord, gu.feedback FROM Guess gu JOIN gu.game g " +
+            "WHERE g.id BETWEEN :fromId AND :toId AND g.guessLog IS NULL ORDER BY g.id, gu.guessNumber")
+    List<Object[]> findUnmigratedGuesses(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // Export rows of the guesses of games played in a date range that have no
+    // inline guess log, in id order: guess id, game id, username, guess number,
+    // guessed word, feedback, created at. Must be consumed in a transaction
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+    @Query("SELECT gu.id, g.id, u.username, gu.guessNumber, gu.guessedWord, gu.feedback, gu.createdAt " +
+            "FROM Guess gu JOIN gu.game g JOIN g.user u WHERE g.datePlayed BETWEEN :from AND :to " +
+            "AND g.guessLog IS NULL ORDER BY gu.id")
+    Stream<Object[]> streamGuessesForExport(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -1,11 +1,21 @@
 package com.game.repository;
 
 import com.game.model.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Runs on nearly every request; the result (the user's id) is cached and
+    // dropped by Hibernate whenever the users table is written, e.g. on register
+    @QueryHints({ @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "users-by-username") })
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String username);
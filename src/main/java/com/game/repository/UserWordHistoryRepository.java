@@ -0,0 +1,9 @@
+package com.game.repository;
+
+import com.game.model.UserWordHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserWordHistoryRepository extends JpaRepository<UserWordHistory, Long> {
+}
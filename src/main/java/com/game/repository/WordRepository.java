@@ -2,16 +2,11 @@ package com.game.repository;
 
 import com.game.model.Word;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface WordRepository extends JpaRepository<Word, Long> {
 
-    // Query to select a random word from the database
-    @Query(value = "SELECT * FROM words ORDER BY RAND() LIMIT 1", nativeQuery = true)
-    Word findRandomWord();
-
     // Check if a word already exists
     boolean existsByWord(String word);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.game.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Principal;
+
+/**
+ * The authenticated user, taken from the token's claims so requests need no
+ * user lookup. userId is null for tokens issued before it was a claim; those
+ * users are resolved by username.
+ */
+public record GamePrincipal(Long userId, String username, String role) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    /**
+     * Get the principal of the current request
+     * 
+     * @return the principal published by {@link JwtFilter}, or one with only a
+     *         username for any other kind of authentication
+     */
+    public static GamePrincipal current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof GamePrincipal principal) {
+            return principal;
+        }
+        return new GamePrincipal(null, authentication.getName(), null);
+    }
+}
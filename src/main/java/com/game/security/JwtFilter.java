@@ -1,6 +1,5 @@
 package com.game.security;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,11 +12,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
 
     public JwtFilter(JwtUtil jwtUtil) {
         this.jwtUtil = jwtUtil;
@@ -33,20 +34,22 @@ public class JwtFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
 
             try {
-                if (jwtUtil.validateToken(token)) {
-                    Claims claims = jwtUtil.extractClaims(token);
-                    String username = claims.getSubject();
-                    String role = (String) claims.get("role");
+                // Parsed once per token, then served from the token cache
+                Optional<VerifiedToken> verified = jwtUtil.verify(token);
+                if (verified.isPresent()) {
+                    VerifiedToken claims = verified.get();
+                    GamePrincipal principal = new GamePrincipal(claims.userId(), claims.username(), claims.role());
+                    String authority = "ROLE_" + claims.role();
 
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            username,
-                            null, Collections.singleton(() -> "ROLE_" + role));
+                            principal,
+                            null, Collections.singleton(() -> authority));
 
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    authentication.setDetails(detailsSource.buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-                } else {
-                    System.err.println("JWT token is expired or invalid");
                 }
+                // Expired, revoked or invalid tokens stay unauthenticated; not logged,
+                // since any client can send them as often as it likes
             } catch (Exception e) {
                 System.err.println("JWT processing error: " + e.getMessage());
             }
@@ -8,61 +8,96 @@ import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
-import java.util.Base64;
+import java.util.Optional;
 
+/**
+ * Issues and verifies tokens. The signing key and parser are built once;
+ * a token is parsed (signature and expiry checked) on first sight and its
+ * claims then served from {@link TokenCache} until it expires.
+ */
 @Component
 public class JwtUtil {
-    @Value("${app.jwt.secret}")
-    private String secretString;
+    // Numeric user id, so requests need no lookup by username
+    private static final String USER_ID_CLAIM = "uid";
 
-    @Value("${app.jwt.expiration-ms}")
-    private long EXPIRATION;
+    private final long expirationMs;
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final TokenCache tokenCache;
 
-    private Key getSigningKey() {
-        byte[] keyBytes = secretString.getBytes(StandardCharsets.UTF_8);
-        return new SecretKeySpec(keyBytes, SignatureAlgorithm.HS256.getJcaName());
+    public JwtUtil(@Value("${app.jwt.secret}") String secretString,
+            @Value("${app.jwt.expiration-ms}") long expiration, TokenCache tokenCache) {
+        this.expirationMs = expiration;
+        this.signingKey = new SecretKeySpec(secretString.getBytes(StandardCharsets.UTF_8),
+                SignatureAlgorithm.HS256.getJcaName());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.tokenCache = tokenCache;
     }
 
-    public String generateToken(String username, String role) {
+    public String generateToken(Long userId, String username, String role) {
         return Jwts.builder()
                 .setSubject(username)
+                .claim(USER_ID_CLAIM, userId)
                 .claim("role", role)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
-                .signWith(getSigningKey())
+                .setExpiration(new Date(System.currentTimeMillis() + expirationMs))
+                .signWith(signingKey)
                 .compact();
     }
 
-    public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    public String extractUsername(String token) {
-        return extractClaims(token).getSubject();
+    /**
+     * Verify a token, parsing it only if it is not cached yet
+     * 
+     * @param token the compact JWT
+     * @return its claims, or empty if the token is invalid, expired or revoked
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String key = TokenCache.keyOf(token);
+        if (tokenCache.isRevoked(key)) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        VerifiedToken verified = tokenCache.get(key, now);
+        if (verified != null) {
+            return Optional.of(verified);
+        }
+        try {
+            verified = toVerifiedToken(extractClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (verified.isExpired(now)) {
+            return Optional.empty();
+        }
+        tokenCache.put(key, verified);
+        return Optional.of(verified);
     }
 
-    public String extractRole(String token) {
-        return (String) extractClaims(token).get("role");
+    /**
+     * Revoke a token until it expires
+     * 
+     * @param token the compact JWT
+     * @return false if the token was not valid to begin with
+     */
+    public boolean revoke(String token) {
+        Optional<VerifiedToken> verified = verify(token);
+        verified.ifPresent(claims -> tokenCache.revoke(TokenCache.keyOf(token), claims.expiresAtMs()));
+        return verified.isPresent();
     }
 
-    public boolean isTokenExpired(String token) {
-        try {
-            return extractClaims(token).getExpiration().before(new Date());
-        } catch (Exception e) {
-            return true;
-        }
+    /**
+     * Parse and verify a token, throwing if it is invalid or expired. Only
+     * {@link #verify(String)} parses, so each token is parsed at most once.
+     */
+    private Claims extractClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    public boolean validateToken(String token) {
-        try {
-            extractClaims(token);
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
+    private static VerifiedToken toVerifiedToken(Claims claims) {
+        Date expiration = claims.getExpiration();
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return new VerifiedToken(userId != null ? userId.longValue() : null, claims.getSubject(),
+                (String) claims.get("role"),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
     }
 }
@@ -0,0 +1,45 @@
+package com.game.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for login attempts: a token bucket per username, so
+ * guesses at one account cannot flood the password hashing pool. Attempts per
+ * client address are limited by {@link RateLimitFilter} (app.rate-limit.auth).
+ */
+@Component
+public class LoginThrottle {
+
+    private final TokenBuckets byUsername;
+    private final Counter throttled;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+            @Value("${app.login.username-burst:5}") int usernameBurst,
+            @Value("${app.login.username-per-minute:10}") int usernamePerMinute,
+            @Value("${app.login.max-tracked-keys:100000}") int maxKeys) {
+        this.byUsername = new TokenBuckets(usernameBurst, usernamePerMinute / 60.0, maxKeys);
+        this.throttled = Counter.builder("login.rejected").tag("reason", "throttled")
+                .description("Login attempts refused, by reason")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take a login attempt from the username's budget
+     * 
+     * @param username the username tried
+     * @return 0 if admitted, otherwise the seconds to wait before retrying
+     */
+    public long tryAdmit(String username) {
+        long wait = byUsername.tryAcquire(username != null ? username : "");
+        if (wait == 0) {
+            return 0;
+        }
+        throttled.increment();
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
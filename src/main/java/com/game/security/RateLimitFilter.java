@@ -0,0 +1,120 @@
+package com.game.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-route request budgets for the game and auth endpoints, so one client
+ * hammering them cannot degrade everyone else.
+ *
+ * Runs after {@link JwtFilter}: game routes are keyed by the authenticated
+ * user, auth routes (and requests without a valid token) by client address.
+ * Each route has its own {@link TokenBuckets}, configured as "burst,requests
+ * per minute". Requests over budget get 429 with Retry-After and count towards
+ * http.rate_limited{route}.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<Route> routes;
+    private final boolean enabled;
+
+    public RateLimitFilter(MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.rate-limit.auth:20,60}") int[] auth,
+            @Value("${app.rate-limit.start:5,10}") int[] start,
+            @Value("${app.rate-limit.guess:10,60}") int[] guess,
+            @Value("${app.rate-limit.status:20,120}") int[] status,
+            @Value("${app.rate-limit.max-tracked-keys:100000}") int maxKeys) {
+        this.enabled = enabled;
+        this.routes = List.of(
+                new Route("auth", null, "/api/auth/", true, auth, maxKeys, meterRegistry),
+                new Route("start", "POST", "/api/games/start", false, start, maxKeys, meterRegistry),
+                new Route("guess", "POST", "/api/games/guess", false, guess, maxKeys, meterRegistry),
+                new Route("status", "GET", "/api/games/status/", false, status, maxKeys, meterRegistry));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Route route = enabled ? match(request) : null;
+        if (route != null) {
+            long wait = route.buckets.tryAcquire(route.byAddress ? addressKey(request) : clientKey(request));
+            if (wait > 0) {
+                route.rejected.increment();
+                long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write("{\"error\":\"Too many requests, please retry in " + retryAfter + "s\"}");
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Route match(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (Route route : routes) {
+            if (path.startsWith(route.pathPrefix) && (route.method == null || route.method.equals(request.getMethod()))) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The authenticated user, falling back to the address for anonymous callers
+     */
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return addressKey(request);
+        }
+        GamePrincipal principal = GamePrincipal.current();
+        return principal.userId() != null ? "id:" + principal.userId() : "user:" + principal.username();
+    }
+
+    private static String addressKey(HttpServletRequest request) {
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static class Route {
+        private final String method; // null for any
+        private final String pathPrefix;
+        private final boolean byAddress;
+        private final TokenBuckets buckets;
+        private final Counter rejected;
+
+        Route(String name, String method, String pathPrefix, boolean byAddress, int[] budget, int maxKeys,
+                MeterRegistry meterRegistry) {
+            if (budget.length != 2) {
+                throw new IllegalArgumentException("Rate limit for " + name + " must be \"burst,per-minute\"");
+            }
+            this.method = method;
+            this.pathPrefix = pathPrefix;
+            this.byAddress = byAddress;
+            this.buckets = new TokenBuckets(budget[0], budget[1] / 60.0, maxKeys);
+            this.rejected = Counter.builder("http.rate_limited").tag("route", name)
+                    .description("Requests refused with 429 by the rate limiter")
+                    .register(meterRegistry);
+        }
+    }
+}
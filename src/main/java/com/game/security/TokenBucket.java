@@ -0,0 +1,65 @@
+package com.game.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket: holds up to capacity tokens, refilled at a fixed
+ * rate.
+ *
+ * Rather than a token count and a refill timestamp, the state is a single
+ * value, the time at which the bucket will be full again (the "theoretical
+ * arrival time" of the generic cell rate algorithm, which admits exactly what
+ * a token bucket does). Taking a token pushes that time one refill interval
+ * forward with a compare-and-set, so concurrent callers never block.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos; // time to refill one token
+    private final long burstNanos; // time to refill the whole bucket
+    private final AtomicLong fullAt;
+
+    /**
+     * @param capacity        tokens available at once (burst size)
+     * @param tokensPerSecond refill rate
+     */
+    public TokenBucket(int capacity, double tokensPerSecond) {
+        if (capacity < 1 || tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and rate must be positive");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / tokensPerSecond);
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Take one token if available
+     * 
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is
+     */
+    public long tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    long tryAcquire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return true once every token has been refilled, i.e. the bucket carries
+     *         no state worth keeping
+     */
+    public boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+}
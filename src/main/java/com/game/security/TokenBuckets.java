@@ -0,0 +1,69 @@
+package com.game.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link TokenBucket} per key (username, client address, ...), bounded to
+ * maxKeys buckets.
+ *
+ * Full buckets hold no information, so when the map is full they are dropped
+ * (at most once a second, the sweep is a scan). Keys that still find no room
+ * share a single overflow bucket: a flood of distinct keys is throttled as a
+ * whole instead of growing the map.
+ */
+public class TokenBuckets {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final double tokensPerSecond;
+    private final int maxKeys;
+    private final TokenBucket overflow;
+    private volatile long lastSweep = System.nanoTime() - SWEEP_INTERVAL_NANOS;
+
+    public TokenBuckets(int capacity, double tokensPerSecond, int maxKeys) {
+        this.capacity = capacity;
+        this.tokensPerSecond = tokensPerSecond;
+        this.maxKeys = maxKeys;
+        this.overflow = new TokenBucket(capacity, tokensPerSecond);
+    }
+
+    /**
+     * Take one token from the key's bucket
+     * 
+     * @param key the caller's key
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is
+     */
+    public long tryAcquire(String key) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.size() < maxKeys || sweep() ? buckets.computeIfAbsent(key, this::newBucket) : overflow;
+        }
+        return bucket.tryAcquire();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Drop full buckets, at most once per interval
+     * 
+     * @return true if there is room for a new bucket
+     */
+    private boolean sweep() {
+        long now = System.nanoTime();
+        if (now - lastSweep >= SWEEP_INTERVAL_NANOS) {
+            lastSweep = now;
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+        return buckets.size() < maxKeys;
+    }
+
+    private TokenBucket newBucket(String key) {
+        return new TokenBucket(capacity, tokensPerSecond);
+    }
+}
@@ -0,0 +1,105 @@
+package com.game.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of verified tokens, plus the list of revoked ones.
+ *
+ * Entries are keyed by the SHA-256 of the token, so raw bearer tokens are
+ * never held, and live only until the token expires. A full cache first
+ * drops expired entries (at most once a second, the sweep is a scan) and
+ * otherwise stops admitting new ones; those tokens are still verified, just
+ * on every request. Revoked tokens are remembered
+ * until they would have expired anyway. Both are per instance.
+ */
+@Component
+public class TokenCache {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, VerifiedToken> verified = new ConcurrentHashMap<>();
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>(); // key -> expiry (ms)
+    private final int maxSize;
+    private volatile long lastSweep = System.nanoTime() - SWEEP_INTERVAL_NANOS;
+
+    public TokenCache(@Value("${app.jwt.cache-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the cached claims of an unexpired token, or null
+     */
+    public VerifiedToken get(String key, long nowMs) {
+        VerifiedToken token = verified.get(key);
+        if (token == null || token.isExpired(nowMs)) {
+            return null;
+        }
+        return token;
+    }
+
+    public void put(String key, VerifiedToken token) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (verified.size() >= maxSize && !sweep()) {
+            return;
+        }
+        verified.put(key, token);
+    }
+
+    public boolean isRevoked(String key) {
+        return !revoked.isEmpty() && revoked.containsKey(key);
+    }
+
+    public void revoke(String key, long expiresAtMs) {
+        revoked.put(key, expiresAtMs);
+        verified.remove(key);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.cache-sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        verified.values().removeIf(token -> token.isExpired(now));
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    public int size() {
+        return verified.size();
+    }
+
+    /**
+     * Drop expired entries, at most once per interval
+     * 
+     * @return true if there is room for a new entry
+     */
+    private boolean sweep() {
+        long now = System.nanoTime();
+        if (now - lastSweep >= SWEEP_INTERVAL_NANOS) {
+            lastSweep = now;
+            evictExpired();
+        }
+        return verified.size() < maxSize;
+    }
+
+    /**
+     * Cache key of a token: its SHA-256, Base64 encoded
+     */
+    public static String keyOf(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
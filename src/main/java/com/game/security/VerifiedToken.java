@@ -0,0 +1,12 @@
+package com.game.security;
+
+/**
+ * Claims of a token whose signature and expiry have been checked. userId is
+ * null for tokens issued before the "uid" claim existed.
+ */
+public record VerifiedToken(Long userId, String username, String role, long expiresAtMs) {
+
+    public boolean isExpired(long nowMs) {
+        return expiresAtMs <= nowMs;
+    }
+}
@@ -0,0 +1,54 @@
+package com.game.service;
+
+import com.game.dto.CacheStatsResponse;
+import org.springframework.stereotype.Service;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hit and miss counts of the second-level cache regions, for sizing them in
+ * hibernate-cache.conf.
+ *
+ * The JCache provider publishes the statistics of every cache with
+ * monitoring.statistics enabled as a platform MBean; counts start at zero
+ * when the application starts.
+ */
+@Service
+public class CacheStatisticsService {
+
+    private static final String STATISTICS_PATTERN = "javax.cache:type=CacheStatistics,*";
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    /**
+     * Get the statistics of every cache region
+     * 
+     * @return one entry per region, by region name
+     */
+    public List<CacheStatsResponse> getCacheStatistics() {
+        List<CacheStatsResponse> regions = new ArrayList<>();
+        try {
+            for (ObjectName name : mBeanServer.queryNames(new ObjectName(STATISTICS_PATTERN), null)) {
+                long hits = attribute(name, "CacheHits");
+                long misses = attribute(name, "CacheMisses");
+                double hitRatio = hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+                regions.add(new CacheStatsResponse(name.getKeyProperty("Cache"), hits, misses,
+                        attribute(name, "CachePuts"), attribute(name, "CacheEvictions"), hitRatio));
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cache statistics unavailable: " + e.getMessage(), e);
+        }
+        regions.sort(Comparator.comparing(CacheStatsResponse::getRegion));
+        return regions;
+    }
+
+    private long attribute(ObjectName name, String attribute) throws JMException {
+        return ((Number) mBeanServer.getAttribute(name, attribute)).longValue();
+    }
+}
@@ -0,0 +1,99 @@
+package com.game.service;
+
+import com.game.repository.GameRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-user daily game quota.
+ *
+ * Counters live in memory keyed by (userId, epochDay) and are reserved with a
+ * compare-and-set loop, so concurrent starts from one user can never exceed
+ * the limit and no COUNT query is needed per start. Today's counters are
+ * reconciled from the games table at startup, before the web server accepts
+ * requests.
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyQuotaService {
+
+    public static final int DAILY_GAME_LIMIT = 3;
+
+    // epochDay fits in 21 bits until the year 7700
+    private static final int DAY_BITS = 21;
+
+    private final GameRepository gameRepository;
+
+    private final Map<Long, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Seed today's counters from the games already in the database. Merged
+     * with any counter that already exists, so a reservation is never lowered.
+     */
+    @PostConstruct
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = gameRepository.countGamesPerUserOn(today);
+        for (Object[] row : rows) {
+            Long userId = ((Number) row[0]).longValue();
+            int count = ((Number) row[1]).intValue();
+            counters.computeIfAbsent(key(userId, today), k -> new AtomicInteger())
+                    .accumulateAndGet(count, Math::max);
+        }
+        System.out.println("Daily quota reconciled for " + rows.size() + " players");
+    }
+
+    /**
+     * Atomically reserve one game for the user on the given day
+     *
+     * @return true if the game may be started, false if the limit is reached
+     */
+    public boolean tryReserve(Long userId, LocalDate day) {
+        AtomicInteger counter = counters.computeIfAbsent(key(userId, day), k -> new AtomicInteger());
+        while (true) {
+            int used = counter.get();
+            if (used >= DAILY_GAME_LIMIT) {
+                return false;
+            }
+            if (counter.compareAndSet(used, used + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Give back a reservation whose game could not be created
+     */
+    public void release(Long userId, LocalDate day) {
+        AtomicInteger counter = counters.get(key(userId, day));
+        if (counter != null) {
+            counter.updateAndGet(used -> Math.max(0, used - 1));
+        }
+    }
+
+    public int used(Long userId, LocalDate day) {
+        AtomicInteger counter = counters.get(key(userId, day));
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * Drop counters of past days shortly after midnight
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void purgePastDays() {
+        long today = LocalDate.now().toEpochDay();
+        counters.keySet().removeIf(key -> (key & ((1L << DAY_BITS) - 1)) < today);
+    }
+
+    private static long key(Long userId, LocalDate day) {
+        return (userId << DAY_BITS) | day.toEpochDay();
+    }
+}
@@ -0,0 +1,154 @@
+package com.game.service;
+
+import com.game.model.DailyRollup;
+import com.game.repository.DailyRollupRepository;
+import com.game.repository.GameRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Daily totals of games for reporting.
+ *
+ * Past days are served from the daily_rollup table, filled by a nightly job
+ * (and lazily for days it never saw). Today is still changing, so it is
+ * aggregated on demand with one query over idx_games_date_played, which only
+ * touches that day's rows. A write to a game from an earlier day (a game
+ * resumed later, or a write-behind flush landing after midnight) drops that
+ * day's stored row through {@link #invalidate(LocalDate)}, so it is
+ * recomputed on the next request. A day computed while such a write commits
+ * may have missed it, so it is dropped again once stored instead of being
+ * kept with stale totals.
+ */
+@Service
+public class DailyRollupService {
+
+    // Games started late in the evening finish after midnight; recompute the
+    // last couple of days so their results are picked up
+    private static final int RECOMPUTE_DAYS = 2;
+
+    private final DailyRollupRepository dailyRollupRepository;
+    private final GameRepository gameRepository;
+    private final TransactionTemplate newTransaction;
+
+    // Bumped once an invalidation has committed; a day computed across a bump
+    // is not kept
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public DailyRollupService(DailyRollupRepository dailyRollupRepository, GameRepository gameRepository,
+            PlatformTransactionManager transactionManager) {
+        this.dailyRollupRepository = dailyRollupRepository;
+        this.gameRepository = gameRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Totals for a day: a stored row for past days, a live aggregate for today
+     */
+    public DailyRollup get(LocalDate date) {
+        if (!date.isBefore(LocalDate.now())) {
+            return compute(date);
+        }
+        return dailyRollupRepository.findById(date).orElseGet(() -> computeAndStore(date));
+    }
+
+    /**
+     * Forget the stored totals of a game's day after the game changed. Runs in
+     * the caller's transaction and again once it has committed, which also
+     * catches a row stored by a request that computed the day before the
+     * change was visible. Today has no stored row, so it costs nothing.
+     *
+     * @param datePlayed the day the changed game was played
+     */
+    public void invalidate(LocalDate datePlayed) {
+        if (datePlayed == null || !datePlayed.isBefore(LocalDate.now())) {
+            return;
+        }
+        dailyRollupRepository.deleteByDate(datePlayed);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidations.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidations.incrementAndGet();
+                try {
+                    discard(datePlayed);
+                } catch (RuntimeException e) {
+                    // The game write itself has committed, do not fail it
+                    System.err.println("Failed to drop the daily rollup of " + datePlayed + ": " + e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Roll up the previous days shortly after midnight
+     */
+    @Scheduled(cron = "${app.reports.rollup-cron:0 10 0 * * *}")
+    public void rollupRecentDays() {
+        LocalDate today = LocalDate.now();
+        for (int i = 1; i <= RECOMPUTE_DAYS; i++) {
+            computeAndStore(today.minusDays(i));
+        }
+        System.out.println("Daily rollup refreshed up to " + today.minusDays(1));
+    }
+
+    /**
+     * Aggregate one day's games with a single indexed query
+     */
+    public DailyRollup compute(LocalDate date) {
+        Object[] row = gameRepository.aggregateDay(date).get(0);
+        return new DailyRollup(
+                date,
+                toInt(row[0]),
+                toInt(row[1]),
+                toInt(row[2]),
+                toInt(row[3]),
+                row[4] != null ? ((Number) row[4]).longValue() : 0,
+                LocalDateTime.now());
+    }
+
+    /**
+     * Compute and store a day, dropping it again if an invalidation committed
+     * meanwhile: the totals may predate that write and nothing would refresh
+     * them
+     */
+    private DailyRollup computeAndStore(LocalDate date) {
+        long seen = invalidations.get();
+        DailyRollup rollup = store(compute(date));
+        if (invalidations.get() != seen) {
+            discard(date);
+        }
+        return rollup;
+    }
+
+    private void discard(LocalDate date) {
+        newTransaction.executeWithoutResult(status -> dailyRollupRepository.deleteByDate(date));
+    }
+
+    private DailyRollup store(DailyRollup rollup) {
+        try {
+            return dailyRollupRepository.save(rollup);
+        } catch (DataIntegrityViolationException e) {
+            // Another request stored the same day first; the values are the same
+            return rollup;
+        }
+    }
+
+    private static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+}
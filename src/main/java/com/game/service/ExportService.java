@@ -0,0 +1,219 @@
+package com.game.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.game.model.Game;
+import com.game.model.GuessLog;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bulk export of games and guesses for analysis.
+ *
+ * Rows come from read-only, forward-only JPA streams (fetch-size hinted, so the
+ * MySQL driver uses a server-side cursor with useCursorFetch=true) and are
+ * written to the output as they are read, so heap usage does not depend on the
+ * number of rows exported.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    public static final String[] GAME_COLUMNS = { "gameId", "username", "datePlayed", "status", "won",
+            "guessCount", "remainingGuesses", "targetWord" };
+    public static final String[] GUESS_COLUMNS = { "guessId", "gameId", "username", "guessNumber", "guessedWord",
+            "feedback", "createdAt" };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final GameRepository gameRepository;
+    private final GuessRepository guessRepository;
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * @throws IllegalArgumentException for anything but csv or ndjson
+         */
+        public static Format parse(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Format must be 'csv' or 'ndjson'");
+        }
+    }
+
+    /**
+     * Export the games played in a date range
+     * 
+     * @param from   first day, or null for no lower bound
+     * @param to     last day, or null for no upper bound
+     * @param format output format
+     * @param gzip   whether to gzip the output
+     * @param out    destination, not closed
+     */
+    @Transactional(readOnly = true)
+    public void exportGames(LocalDate from, LocalDate to, Format format, boolean gzip, OutputStream out)
+            throws IOException {
+        try (Stream<Object[]> rows = gameRepository.streamGamesForExport(lower(from), upper(to))) {
+            write(format, GAME_COLUMNS, rows.map(ExportService::hidePlaceholderWord), out, gzip);
+        }
+    }
+
+    /**
+     * Export the guesses of games played in a date range: the guess rows of games
+     * without an inline log, then the logs, whichever storage mode wrote them
+     * 
+     * @param from   first day, or null for no lower bound
+     * @param to     last day, or null for no upper bound
+     * @param format output format
+     * @param gzip   whether to gzip the output
+     * @param out    destination, not closed
+     */
+    @Transactional(readOnly = true)
+    public void exportGuesses(LocalDate from, LocalDate to, Format format, boolean gzip, OutputStream out)
+            throws IOException {
+        try (Stream<Object[]> rows = guessRepository.streamGuessesForExport(lower(from), upper(to));
+                Stream<Object[]> logs = gameRepository.streamGuessLogsForExport(lower(from), upper(to))) {
+            write(format, GUESS_COLUMNS, Stream.concat(rows, logs.flatMap(ExportService::unpackGuessLog)), out,
+                    gzip);
+        }
+    }
+
+    /**
+     * One guess row per entry of an inline log (game id, username, log). Inline
+     * guesses have no id or timestamp of their own, so those columns are empty.
+     */
+    private static Stream<Object[]> unpackGuessLog(Object[] row) {
+        GuessLog log = (GuessLog) row[2];
+        return IntStream.range(0, log.size()).mapToObj(i -> new Object[] { null, row[0], row[1], i + 1,
+                FeedbackEngine.toWord(log.word(i)), FeedbackEngine.decode(log.feedback(i)), null });
+    }
+
+    /**
+     * Write rows (values in column order) to the output, one at a time
+     */
+    void write(Format format, String[] columns, Stream<Object[]> rows, OutputStream out, boolean gzip)
+            throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        try {
+            if (format == Format.CSV) {
+                writeCsv(columns, rows.iterator(), target);
+            } else {
+                writeNdjson(columns, rows.iterator(), target);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        out.flush();
+    }
+
+    private static void writeCsv(String[] columns, Iterator<Object[]> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(String.join(",", columns));
+        writer.write('\n');
+        while (rows.hasNext()) {
+            Object[] row = rows.next();
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (row[i] != null) {
+                    writeCsvValue(writer, row[i].toString());
+                }
+            }
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeNdjson(String[] columns, Iterator<Object[]> rows, OutputStream out)
+            throws IOException {
+        SerializedString[] names = new SerializedString[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            names[i] = new SerializedString(columns[i]);
+        }
+
+        JsonGenerator generator = JSON.createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Each object ends its own line, so an empty export is empty
+        generator.setRootValueSeparator(null);
+        while (rows.hasNext()) {
+            Object[] row = rows.next();
+            generator.writeStartObject();
+            for (int i = 0; i < names.length; i++) {
+                generator.writeFieldName(names[i]);
+                Object value = row[i];
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Long l) {
+                    generator.writeNumber(l);
+                } else if (value instanceof Integer n) {
+                    generator.writeNumber(n);
+                } else if (value instanceof Boolean b) {
+                    generator.writeBoolean(b);
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+
+    // The word of a game nobody guessed on is a placeholder; do not leak it
+    private static Object[] hidePlaceholderWord(Object[] row) {
+        if (Game.Status.of((Game.Status) row[3], (Integer) row[5], (Boolean) row[4]) == Game.Status.NEW) {
+            row[7] = null;
+        }
+        return row;
+    }
+
+    private static LocalDate lower(LocalDate from) {
+        return from != null ? from : ReportService.EARLIEST_DATE;
+    }
+
+    private static LocalDate upper(LocalDate to) {
+        return to != null ? to : ReportService.LATEST_DATE;
+    }
+}
@@ -0,0 +1,169 @@
+package com.game.service;
+
+/**
+ * Allocation-free feedback engine for five-letter words.
+ *
+ * Words are packed into an int using 5 bits per letter (A=1 .. Z=26), with
+ * position 0 in the lowest bits. Feedback is packed into an int using 2 bits
+ * per position: GREY (R), ORANGE (O) or GREEN (G). The G/O/R string is only
+ * produced at the JSON boundary through {@link #decode(int)}.
+ */
+public final class FeedbackEngine {
+
+    public static final int WORD_LENGTH = 5;
+
+    public static final int GREY = 0; // R - letter not in word
+    public static final int ORANGE = 1; // O - correct letter, wrong position
+    public static final int GREEN = 2; // G - correct letter, correct position
+
+    // Feedback value of a fully correct guess (GREEN in every slot)
+    public static final int ALL_GREEN = 0b10_10_10_10_10;
+
+    private static final int LETTER_BITS = 5;
+    private static final int LETTER_MASK = 0x1F;
+    private static final int SLOT_BITS = 2;
+    private static final int SLOT_MASK = 0x3;
+    private static final char[] SLOT_CHARS = { 'R', 'O', 'G' };
+
+    private FeedbackEngine() {
+    }
+
+    /**
+     * Pack a five-letter word into an int (case-insensitive)
+     *
+     * @param word the word to encode
+     * @return the packed word
+     * @throws IllegalArgumentException if the word is not exactly 5 letters A-Z
+     */
+    public static int encode(CharSequence word) {
+        if (word == null || word.length() != WORD_LENGTH) {
+            throw new IllegalArgumentException("Guessed word must be exactly 5 letters");
+        }
+
+        int packed = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            char c = word.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                c -= 'a' - 'A';
+            }
+            if (c < 'A' || c > 'Z') {
+                throw new IllegalArgumentException("Guessed word must contain only letters");
+            }
+            packed |= (c - 'A' + 1) << (i * LETTER_BITS);
+        }
+        return packed;
+    }
+
+    /**
+     * Check whether a word can be packed without throwing
+     */
+    public static boolean isEncodable(CharSequence word) {
+        if (word == null || word.length() != WORD_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            char c = word.charAt(i);
+            if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Unpack a word back into its uppercase string form
+     */
+    public static String toWord(int packed) {
+        char[] letters = new char[WORD_LENGTH];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            letters[i] = (char) ('A' + letterAt(packed, i) - 1);
+        }
+        return new String(letters);
+    }
+
+    /**
+     * Score a guess against a target.
+     *
+     * Greens are assigned first, then each remaining guess letter may claim at
+     * most one unmatched target letter. The consumed-position mask acts as the
+     * per-letter remaining count, so duplicate letters are never over-reported
+     * (e.g. guessing LLAMA against HELLO gives one O per L actually present).
+     *
+     * @param guess  packed guessed word
+     * @param target packed target word
+     * @return packed feedback
+     */
+    public static int score(int guess, int target) {
+        int feedback = 0;
+        int consumed = 0;
+
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if (letterAt(guess, i) == letterAt(target, i)) {
+                feedback |= GREEN << (i * SLOT_BITS);
+                consumed |= 1 << i;
+            }
+        }
+
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if (slotAt(feedback, i) == GREEN) {
+                continue;
+            }
+            int letter = letterAt(guess, i);
+            for (int j = 0; j < WORD_LENGTH; j++) {
+                if ((consumed & (1 << j)) == 0 && letterAt(target, j) == letter) {
+                    feedback |= ORANGE << (i * SLOT_BITS);
+                    consumed |= 1 << j;
+                    break;
+                }
+            }
+        }
+
+        return feedback;
+    }
+
+    /**
+     * Convert packed feedback into the G/O/R string sent to clients
+     */
+    public static String decode(int feedback) {
+        char[] slots = new char[WORD_LENGTH];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            slots[i] = SLOT_CHARS[slotAt(feedback, i)];
+        }
+        return new String(slots);
+    }
+
+    /**
+     * Pack a G/O/R feedback string, the inverse of {@link #decode(int)}
+     *
+     * @throws IllegalArgumentException if it is not 5 of G, O or R
+     */
+    public static int parse(CharSequence feedback) {
+        if (feedback == null || feedback.length() != WORD_LENGTH) {
+            throw new IllegalArgumentException("Feedback must be exactly 5 characters");
+        }
+
+        int packed = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int slot = switch (feedback.charAt(i)) {
+                case 'R' -> GREY;
+                case 'O' -> ORANGE;
+                case 'G' -> GREEN;
+                default -> throw new IllegalArgumentException("Feedback must contain only G, O or R");
+            };
+            packed |= slot << (i * SLOT_BITS);
+        }
+        return packed;
+    }
+
+    public static boolean isWin(int feedback) {
+        return feedback == ALL_GREEN;
+    }
+
+    public static int letterAt(int packed, int position) {
+        return (packed >>> (position * LETTER_BITS)) & LETTER_MASK;
+    }
+
+    public static int slotAt(int feedback, int position) {
+        return (feedback >>> (position * SLOT_BITS)) & SLOT_MASK;
+    }
+}
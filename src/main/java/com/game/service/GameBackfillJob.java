@@ -0,0 +1,55 @@
+package com.game.service;
+
+import com.game.repository.GameRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills in guess_count and status for games created before those columns
+ * existed. Runs once at startup, before the web server accepts requests,
+ * walking the affected id range in chunks so each transaction stays short;
+ * rows already filled are left untouched, so an interrupted run simply
+ * resumes on the next start.
+ */
+@Component
+public class GameBackfillJob {
+
+    private final GameRepository gameRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public GameBackfillJob(GameRepository gameRepository, PlatformTransactionManager transactionManager,
+            @Value("${app.games.backfill-chunk-size:5000}") int chunkSize) {
+        this.gameRepository = gameRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    // Before GuessLogMigrationJob, which reads the guess counts filled in here
+    @PostConstruct
+    public void run() {
+        List<Object[]> range = gameRepository.findBackfillRange();
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return;
+        }
+        long minId = ((Number) range.get(0)[0]).longValue();
+        long maxId = ((Number) range.get(0)[1]).longValue();
+
+        long updated = 0;
+        for (long from = minId; from <= maxId; from += chunkSize) {
+            long to = Math.min(maxId, from + chunkSize - 1);
+            long chunkFrom = from;
+            Integer count = transactionTemplate.execute(status -> {
+                gameRepository.backfillGuessCounts(chunkFrom, to);
+                return gameRepository.backfillStatuses(chunkFrom, to);
+            });
+            updated += count != null ? count : 0;
+        }
+        System.out.println("Backfilled guess count and status of " + updated + " games");
+    }
+}
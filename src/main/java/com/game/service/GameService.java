@@ -2,20 +2,36 @@ package com.game.service;
 
 import com.game.dto.*;
 import com.game.model.Game;
-import com.game.model.Guess;
+import com.game.model.GuessLog;
+import com.game.model.PlayerStats;
 import com.game.model.User;
 import com.game.model.Word;
+import com.game.repository.GameLogRow;
 import com.game.repository.GameRepository;
+import com.game.repository.GameSummary;
+import com.game.repository.GuessHistoryRow;
 import com.game.repository.GuessRepository;
 import com.game.repository.UserRepository;
 import com.game.repository.WordRepository;
+import com.game.security.GamePrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -25,50 +41,64 @@ public class GameService {
     private final WordRepository wordRepository;
     private final UserRepository userRepository;
     private final GuessRepository guessRepository;
-
-    private static final int DAILY_GAME_LIMIT = 3;
+    private final WordDictionary wordDictionary;
+    private final WordScheduler wordScheduler;
+    private final GuessDictionary guessDictionary;
+    private final GameSessionCache gameSessionCache;
+    private final DailyQuotaService dailyQuotaService;
+    private final PlayerStatsService playerStatsService;
+
+    private static final int DAILY_GAME_LIMIT = DailyQuotaService.DAILY_GAME_LIMIT;
     private static final int INITIAL_GUESSES = 5;
 
     /**
      * Start a new game for a user
      * 
-     * @param username the username of the player
+     * @param player the authenticated player
      * @return GameStartResponse with game details or error message
      * @throws IllegalStateException if daily limit is reached
      */
-    public GameStartResponse startNewGame(String username) {
-        // Get the user
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+    public GameStartResponse startNewGame(GamePrincipal player) {
+        Long userId = userIdOf(player);
 
-        // Check if user has reached daily limit
+        // Atomically reserve one of today's games (fails if daily limit is reached)
         LocalDate today = LocalDate.now();
-        int gamesPlayedToday = gameRepository.countGamesPlayedToday(user, today);
-
-        if (gamesPlayedToday >= DAILY_GAME_LIMIT) {
+        if (!dailyQuotaService.tryReserve(userId, today)) {
             throw new IllegalStateException(
                     "You have reached the daily limit of 3 games today. Please try again tomorrow.");
         }
 
-        // Create a game with temporary placeholder word (will be replaced on first
-        // guess)
-        // This is needed because the database schema has a NOT NULL constraint on
-        // word_id
-        Word placeholderWord = wordRepository.findRandomWord();
-        if (placeholderWord == null) {
-            throw new IllegalStateException("No words available in the database.");
+        Game savedGame;
+        try {
+            // Create a game with temporary placeholder word (will be replaced on first
+            // guess)
+            // This is needed because the database schema has a NOT NULL constraint on
+            // word_id
+            int placeholderIndex = wordDictionary.randomIndex();
+            if (placeholderIndex < 0) {
+                throw new IllegalStateException("No words available in the database.");
+            }
+            Word placeholderWord = wordRepository.getReferenceById(wordDictionary.idAt(placeholderIndex));
+
+            // Create a new game record with placeholder word
+            Game newGame = new Game();
+            newGame.setUser(userRepository.getReferenceById(userId)); // no user select
+            newGame.setWord(placeholderWord); // Use placeholder word
+            newGame.setDatePlayed(today);
+            newGame.setRemainingGuesses(INITIAL_GUESSES);
+            newGame.setIsWon(null); // Neither won nor lost initially
+
+            // Save the game
+            savedGame = gameRepository.save(newGame);
+        } catch (RuntimeException e) {
+            // Give the reservation back if the game could not be created
+            dailyQuotaService.release(userId, today);
+            throw e;
         }
 
-        // Create a new game record with placeholder word
-        Game newGame = new Game();
-        newGame.setUser(user);
-        newGame.setWord(placeholderWord); // Use placeholder word
-        newGame.setDatePlayed(today);
-        newGame.setRemainingGuesses(INITIAL_GUESSES);
-        newGame.setIsWon(null); // Neither won nor lost initially
-
-        // Save the game
-        Game savedGame = gameRepository.save(newGame);
+        // Keep the session in memory for the upcoming guesses
+        gameSessionCache.register(savedGame);
+        gameSessionCache.evictIfFull();
 
         // Return success response
         return new GameStartResponse(
@@ -80,15 +110,12 @@ public class GameService {
     /**
      * Get player's daily game status
      * 
-     * @param username the username of the player
+     * @param player the authenticated player
      * @return DailyStatusResponse with daily game information
      */
-    public DailyStatusResponse getPlayerDailyStatus(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
-
+    public DailyStatusResponse getPlayerDailyStatus(GamePrincipal player) {
         LocalDate today = LocalDate.now();
-        int gamesPlayedToday = gameRepository.countGamesPlayedToday(user, today);
+        int gamesPlayedToday = dailyQuotaService.used(userIdOf(player), today);
         int remainingGames = Math.max(0, DAILY_GAME_LIMIT - gamesPlayedToday);
         boolean canStartNewGame = gamesPlayedToday < DAILY_GAME_LIMIT;
 
@@ -105,7 +132,7 @@ public class GameService {
         }
 
         return new DailyStatusResponse(
-                username,
+                player.username(),
                 gamesPlayedToday,
                 DAILY_GAME_LIMIT,
                 remainingGames,
@@ -116,118 +143,109 @@ public class GameService {
     /**
      * Submit a guess for a game
      * 
-     * @param username the username of the player
-     * @param request  the guess request containing gameId and guessed word
+     * @param player  the authenticated player
+     * @param request the guess request containing gameId and guessed word
      * @return GuessResponse with feedback and game status
      */
-    public GuessResponse submitGuess(String username, GuessRequest request) {
-        // Validate input
-        if (request.getGuessedWord() == null || request.getGuessedWord().length() != 5) {
-            throw new IllegalArgumentException("Guessed word must be exactly 5 letters");
-        }
-
+    public GuessResponse submitGuess(GamePrincipal player, GuessRequest request) {
+        // Validate input (throws IllegalArgumentException for wrong length or
+        // non-letters)
+        int guessCode = FeedbackEngine.encode(request.getGuessedWord());
         String guessedWord = request.getGuessedWord().toUpperCase();
 
-        // Get the game
-        Optional<Game> gameOpt = gameRepository.findById(request.getGameId());
-        if (gameOpt.isEmpty()) {
+        // Reject non-words before touching the database
+        if (!guessDictionary.isAllowed(guessedWord)) {
+            throw new IllegalArgumentException("'" + guessedWord + "' is not in the word list");
+        }
+
+        // Guesses on one game are serialized; two concurrent submissions must not
+        // both observe the same guess number
+        if (request.getGameId() == null) {
             throw new IllegalArgumentException("Game not found");
         }
+        Long userId = userIdOf(player);
+        Lock lock = gameSessionCache.lockFor(request.getGameId());
+        lock.lock();
+        try {
+            return applyGuess(userId, request.getGameId(), guessedWord, guessCode);
+        } finally {
+            lock.unlock();
+            gameSessionCache.evictIfFull();
+        }
+    }
 
-        Game game = gameOpt.get();
+    /**
+     * Apply a validated guess to the game session. Caller holds the game's lock.
+     */
+    private GuessResponse applyGuess(Long userId, Long gameId, String guessedWord, int guessCode) {
+        // Get the game session (served from memory, loaded from the database on a
+        // miss)
+        GameSession session = gameSessionCache.get(gameId);
 
         // Verify user owns this game
-        if (!game.getUser().getUsername().equals(username)) {
+        if (!session.getUserId().equals(userId)) {
             throw new IllegalArgumentException("You can only play your own games");
         }
 
         // Check if game is already completed
-        if (game.isCompleted()) {
+        if (session.isCompleted()) {
             throw new IllegalStateException("This game is already completed");
         }
 
         // Check if user has remaining guesses
-        if (game.getRemainingGuesses() <= 0) {
+        if (session.getRemainingGuesses() <= 0) {
             throw new IllegalStateException("No remaining guesses for this game");
         }
 
         // Get current guess number
-        int currentGuessCount = guessRepository.countGuessesByGame(game);
-        int guessNumber = currentGuessCount + 1;
+        int guessNumber = session.getGuesses().size() + 1;
 
         // If this is the first guess, replace the placeholder word with a new random
         // target word
-        String targetWord;
         if (guessNumber == 1) {
-            // This is the first guess, so replace the placeholder word with a new random
-            // word
-            Word currentWord = game.getWord(); // This is the placeholder word
-            Word newRandomWord = wordRepository.findRandomWord();
-
-            if (newRandomWord == null) {
-                throw new IllegalStateException("No words available in the database.");
-            }
-
-            // Try to get a different word than the placeholder if possible
-            int attempts = 0;
-            while (newRandomWord.getId().equals(currentWord.getId()) && attempts < 5) {
-                newRandomWord = wordRepository.findRandomWord();
-                attempts++;
-            }
-
-            // Set the new word
-            game.setWord(newRandomWord);
-            gameRepository.save(game);
-            targetWord = newRandomWord.getWord();
-        } else {
-            targetWord = game.getWord().getWord();
+            // This is the first guess, so replace the placeholder word with a word the
+            // player has not been given before
+            long newWordId = wordScheduler.nextWordId(session.getUserId());
+            session.setWordId(newWordId);
+            session.setTargetWord(wordDictionary.wordOf(newWordId));
         }
+        String targetWord = session.getTargetWord();
 
-        // Generate feedback for the guess
-        String feedback = generateFeedback(guessedWord, targetWord);
-
-        // Create and save the guess
-        Guess guess = new Guess();
-        guess.setGame(game);
-        guess.setGuessedWord(guessedWord);
-        guess.setGuessNumber(guessNumber);
-        guess.setFeedback(feedback);
-        guessRepository.save(guess);
+        // Generate feedback for the guess; only decoded to G/O/R for storage and
+        // the response
+        int feedbackCode = FeedbackEngine.score(guessCode, FeedbackEngine.encode(targetWord));
+        String feedback = FeedbackEngine.decode(feedbackCode);
 
-        // Update remaining guesses
-        game.setRemainingGuesses(game.getRemainingGuesses() - 1);
+        // Record the guess and update remaining guesses
+        GuessResponse.PreviousGuess guess = new GuessResponse.PreviousGuess(guessedWord, feedback, guessNumber);
+        session.addGuess(guess);
+        session.setRemainingGuesses(session.getRemainingGuesses() - 1);
 
         // Check if word is correct
-        boolean isCorrect = guessedWord.equals(targetWord);
+        boolean isCorrect = FeedbackEngine.isWin(feedbackCode);
         boolean gameCompleted = false;
         Boolean won = null;
         String message = "";
 
         if (isCorrect) {
             // Player won
-            game.setIsWon(true);
+            session.setWon(true);
             gameCompleted = true;
             won = true;
             message = "🎉 Congratulations! You guessed the word correctly! The word was: " + targetWord;
-        } else if (game.getRemainingGuesses() <= 0) {
+        } else if (session.getRemainingGuesses() <= 0) {
             // Player lost (no more guesses)
-            game.setIsWon(false);
+            session.setWon(false);
             gameCompleted = true;
             won = false;
             message = "😞 Better luck next time! The word was: " + targetWord;
         } else {
             // Game continues
-            message = "Try again! " + game.getRemainingGuesses() + " guesses remaining.";
+            message = "Try again! " + session.getRemainingGuesses() + " guesses remaining.";
         }
 
-        // Save updated game
-        gameRepository.save(game);
-
-        // Get all previous guesses for response
-        List<Guess> allGuesses = guessRepository.findByGameOrderByGuessNumber(game);
-        List<GuessResponse.PreviousGuess> previousGuesses = allGuesses.stream()
-                .map(g -> new GuessResponse.PreviousGuess(g.getGuessedWord(), g.getFeedback(), g.getGuessNumber()))
-                .collect(Collectors.toList());
+        // Persist the guess and updated game asynchronously (write-behind)
+        gameSessionCache.persistGuess(session, guess);
 
         // Create response using setters to avoid constructor issues
         GuessResponse response = new GuessResponse();
@@ -235,101 +253,80 @@ public class GameService {
         response.setGameCompleted(gameCompleted);
         response.setWon(won);
         response.setMessage(message);
-        response.setGameId(game.getId());
-        response.setRemainingGuesses(game.getRemainingGuesses());
+        response.setGameId(session.getGameId());
+        response.setRemainingGuesses(session.getRemainingGuesses());
         response.setFeedback(feedback);
         response.setTargetWord(gameCompleted ? targetWord : null);
         response.setCurrentGuess(guessedWord);
-        response.setPreviousGuesses(previousGuesses);
+        response.setPreviousGuesses(new ArrayList<>(session.getGuesses()));
 
         return response;
     }
 
-    /**
-     * Generate feedback for a guessed word vs target word
-     * G = Green (correct letter, correct position)
-     * O = Orange (correct letter, wrong position)
-     * R = Grey (letter not in word)
-     */
-    private String generateFeedback(String guessed, String target) {
-        StringBuilder feedback = new StringBuilder();
-
-        for (int i = 0; i < 5; i++) {
-            char guessedChar = guessed.charAt(i);
-            char targetChar = target.charAt(i);
-
-            if (guessedChar == targetChar) {
-                // Correct letter in correct position
-                feedback.append('G');
-            } else if (target.contains(String.valueOf(guessedChar))) {
-                // Letter exists in word but wrong position
-                feedback.append('O');
-            } else {
-                // Letter not in word
-                feedback.append('R');
-            }
-        }
-
-        return feedback.toString();
-    }
-
     /**
      * Get current game status
      * 
-     * @param username the username of the player
-     * @param gameId   the game ID
+     * @param player the authenticated player
+     * @param gameId the game ID
      * @return GameStatusResponse with current game state
      */
-    public GameStatusResponse getGameStatus(String username, Long gameId) {
-        Optional<Game> gameOpt = gameRepository.findById(gameId);
-        if (gameOpt.isEmpty()) {
+    public GameStatusResponse getGameStatus(GamePrincipal player, Long gameId) {
+        if (gameId == null) {
             throw new IllegalArgumentException("Game not found");
         }
+        Long userId = userIdOf(player);
+        // Read a consistent snapshot while no guess is being applied
+        Lock lock = gameSessionCache.lockFor(gameId);
+        lock.lock();
+        try {
+            return buildGameStatus(userId, gameId);
+        } finally {
+            lock.unlock();
+            gameSessionCache.evictIfFull();
+        }
+    }
 
-        Game game = gameOpt.get();
+    private GameStatusResponse buildGameStatus(Long userId, Long gameId) {
+        GameSession session = gameSessionCache.get(gameId);
 
         // Verify user owns this game
-        if (!game.getUser().getUsername().equals(username)) {
+        if (!session.getUserId().equals(userId)) {
             throw new IllegalArgumentException("You can only view your own games");
         }
 
         // Get all guesses for this game
-        List<Guess> allGuesses = guessRepository.findByGameOrderByGuessNumber(game);
-        List<GuessResponse.PreviousGuess> previousGuesses = allGuesses.stream()
-                .map(g -> new GuessResponse.PreviousGuess(g.getGuessedWord(), g.getFeedback(), g.getGuessNumber()))
-                .collect(Collectors.toList());
+        List<GuessResponse.PreviousGuess> previousGuesses = new ArrayList<>(session.getGuesses());
 
         String message = "";
         String targetWord = null;
 
         // Check if any guesses have been made yet (first guess is when the real word is
         // assigned)
-        if (allGuesses.isEmpty()) {
+        if (previousGuesses.isEmpty()) {
             // No guesses made yet, don't show the placeholder word
             targetWord = "[Hidden until first guess]";
-            message = "Game ready. " + game.getRemainingGuesses() + " guesses available.";
+            message = "Game ready. " + session.getRemainingGuesses() + " guesses available.";
         }
         // Only show word if game has at least one guess or is completed with a result
-        else if (game.isCompleted() && game.getIsWon() != null) {
+        else if (session.isCompleted()) {
             // Only show the word if the game is completed with a win/lose result
-            // or if the user has made at least one guess
-            targetWord = game.getWord().getWord();
+            targetWord = session.getTargetWord();
 
-            if (game.getIsWon()) {
+            if (session.getWon()) {
                 message = "Congratulations! You won this game!";
             } else {
                 message = "Game over. Better luck next time!";
             }
         } else {
-            message = "Game in progress. " + game.getRemainingGuesses() + " guesses remaining.";
+            message = "Game in progress. " + session.getRemainingGuesses() + " guesses remaining.";
         }
 
         return new GameStatusResponse(
-                game.getId(),
+                session.getGameId(),
                 targetWord,
-                game.getRemainingGuesses(),
-                game.isCompleted(),
-                game.getIsWon(),
+                session.getRemainingGuesses(),
+                session.isCompleted(),
+                session.getWon(),
                 message,
                 previousGuesses);
     }
@@ -360,10 +357,11 @@ public class GameService {
             throw new IllegalArgumentException("Word '" + normalizedWord + "' already exists in the database");
         }
 
-        // Create and save new word
+        // Create and save new word, then append it to the in-memory dictionary
         Word newWord = new Word();
         newWord.setWord(normalizedWord);
-        wordRepository.save(newWord);
+        wordDictionary.add(wordRepository.save(newWord));
+        guessDictionary.allow(normalizedWord);
 
         return "Word '" + normalizedWord + "' added successfully";
     }
@@ -371,121 +369,81 @@ public class GameService {
     /**
      * Get player statistics - only include games with guesses made
      * 
-     * @param username the player's username
+     * @param player the authenticated player
      * @return player statistics
      */
-    public PlayerStatsResponse getPlayerStats(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
-
-        // Get completed games
-        List<Game> completedGames = gameRepository.findCompletedGamesByUser(user);
-
-        // Filter to only include games with at least one guess made
-        List<Game> gamesWithGuesses = completedGames.stream()
-                .filter(game -> guessRepository.countGuessesByGame(game) > 0)
-                .collect(Collectors.toList());
-
-        int totalGames = gamesWithGuesses.size();
-        int gamesWon = (int) gamesWithGuesses.stream().filter(Game::getIsWon).count();
+    public PlayerStatsResponse getPlayerStats(GamePrincipal player) {
+        Long userId = userIdOf(player);
+
+        // Materialized stats are a primary-key read; players without a row yet
+        // get a one-off rebuild that is stored in the background
+        PlayerStats stats = playerStatsService.find(userId).orElseGet(() -> {
+            PlayerStats rebuilt = playerStatsService.rebuild(userId);
+            gameSessionCache.submitWrite(() -> playerStatsService.materialize(userId));
+            return rebuilt;
+        });
+
+        int totalGames = stats.getTotalGames();
+        int gamesWon = stats.getGamesWon();
         int gamesLost = totalGames - gamesWon;
         double winRate = totalGames > 0 ? (double) gamesWon / totalGames * 100 : 0.0;
-
-        // Calculate current streak - using only games with guesses
-        int currentStreak = calculateCurrentStreak(gamesWithGuesses);
-
-        // Calculate longest streak - using only games with guesses
-        int longestStreak = calculateLongestStreak(gamesWithGuesses);
-
-        // Calculate average guesses for won games - use actual guess count from
-        // repository
-        double averageGuesses = gamesWithGuesses.stream()
-                .filter(Game::getIsWon)
-                .mapToDouble(game -> guessRepository.countGuessesByGame(game))
-                .average()
-                .orElse(0.0);
+        double averageGuesses = gamesWon > 0 ? (double) stats.getWonGuessSum() / gamesWon : 0.0;
 
         return new PlayerStatsResponse(
                 totalGames,
                 gamesWon,
                 gamesLost,
                 Math.round(winRate * 100.0) / 100.0, // Round to 2 decimal places
-                currentStreak,
-                longestStreak,
-                Math.round(averageGuesses * 100.0) / 100.0 // Round to 2 decimal places
-        );
-    }
-
-    private int calculateCurrentStreak(List<Game> games) {
-        if (games.isEmpty())
-            return 0;
-
-        // Sort games by date descending (most recent first)
-        games.sort((g1, g2) -> g2.getDatePlayed().compareTo(g1.getDatePlayed()));
-
-        int streak = 0;
-        for (Game game : games) {
-            if (game.getIsWon()) {
-                streak++;
-            } else {
-                break;
-            }
-        }
-        return streak;
-    }
-
-    private int calculateLongestStreak(List<Game> games) {
-        if (games.isEmpty())
-            return 0;
-
-        // Sort games by date ascending (oldest first)
-        games.sort((g1, g2) -> g1.getDatePlayed().compareTo(g2.getDatePlayed()));
-
-        int maxStreak = 0;
-        int currentStreak = 0;
-
-        for (Game game : games) {
-            if (game.getIsWon()) {
-                currentStreak++;
-                maxStreak = Math.max(maxStreak, currentStreak);
-            } else {
-                currentStreak = 0;
-            }
-        }
-        return maxStreak;
+                stats.getCurrentStreak(),
+                stats.getLongestStreak(),
+                Math.round(averageGuesses * 100.0) / 100.0, // Round to 2 decimal places
+                List.of(stats.getWinsIn1(), stats.getWinsIn2(), stats.getWinsIn3(), stats.getWinsIn4(),
+                        stats.getWinsIn5()));
     }
 
     /**
      * Get comprehensive game history for a player - only includes games with
      * guesses
      * 
+     * Read as one row per guess, or per game with inline guess storage (no
+     * entities either way), so the statement count does not depend on the number
+     * of games.
+     * 
      * @param username the player's username
      * @return complete game history with all guesses and details
      */
+    @Transactional(readOnly = true)
     public GameHistoryResponse getPlayerGameHistory(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+        return getPlayerGameHistory(new GamePrincipal(null, username, null));
+    }
 
-        // Get all games for the user (both completed and in-progress)
-        List<Game> userGames = gameRepository.findByUserOrderByDatePlayedDesc(user);
+    /**
+     * Get the game history of the authenticated player, see
+     * {@link #getPlayerGameHistory(String)}
+     * 
+     * @param player the authenticated player
+     * @return complete game history with all guesses and details
+     */
+    @Transactional(readOnly = true)
+    public GameHistoryResponse getPlayerGameHistory(GamePrincipal player) {
+        Long userId = userIdOf(player);
 
-        // Filter to only include games with at least one guess made
-        List<Game> gamesWithGuesses = userGames.stream()
-                .filter(game -> guessRepository.countGuessesByGame(game) > 0)
-                .collect(Collectors.toList());
-
-        List<GameHistoryResponse.GameDetails> gameDetailsList = gamesWithGuesses.stream()
-                .map(this::convertGameToDetails)
-                .collect(Collectors.toList());
+        // Games with at least one guess made (both completed and in-progress)
+        List<GameHistoryResponse.GameDetails> gameDetailsList = new ArrayList<>();
+        streamPlayerGameHistory(userId, gameDetailsList::add);
+        gameDetailsList.sort(Comparator.comparing(GameHistoryResponse.GameDetails::getDatePlayed)
+                .thenComparing(GameHistoryResponse.GameDetails::getGameId)
+                .reversed());
 
         // Calculate summary statistics - only count games with guesses
-        int totalGames = gamesWithGuesses.size();
-        int completedGames = (int) gamesWithGuesses.stream().filter(Game::isCompleted).count();
-        int wonGames = (int) gamesWithGuesses.stream().filter(game -> Boolean.TRUE.equals(game.getIsWon())).count();
-        int lostGames = (int) gamesWithGuesses.stream().filter(game -> Boolean.FALSE.equals(game.getIsWon())).count();
+        int totalGames = gameDetailsList.size();
+        int completedGames = (int) gameDetailsList.stream().filter(GameHistoryResponse.GameDetails::isCompleted)
+                .count();
+        int wonGames = (int) gameDetailsList.stream().filter(game -> Boolean.TRUE.equals(game.getWon())).count();
+        int lostGames = (int) gameDetailsList.stream().filter(game -> Boolean.FALSE.equals(game.getWon())).count();
 
         return new GameHistoryResponse(
-                username,
+                player.username(),
                 totalGames,
                 completedGames,
                 wonGames,
@@ -493,46 +451,6 @@ public class GameService {
                 gameDetailsList);
     }
 
-    /**
-     * Convert a Game entity to GameDetails DTO
-     */
-    private GameHistoryResponse.GameDetails convertGameToDetails(Game game) {
-        List<Guess> guesses = guessRepository.findByGameOrderByGuessNumber(game);
-
-        List<GameHistoryResponse.GuessDetails> guessDetailsList = guesses.stream()
-                .map(guess -> new GameHistoryResponse.GuessDetails(
-                        guess.getGuessNumber(),
-                        guess.getGuessedWord(),
-                        guess.getFeedback() != null ? guess.getFeedback() : "",
-                        guess.getFeedback() != null ? convertFeedbackToDisplay(guess.getFeedback()) : ""))
-                .collect(Collectors.toList());
-
-        // Use the remaining_guesses field from the game
-        int guessesUsed = INITIAL_GUESSES
-                - (game.getRemainingGuesses() != null ? game.getRemainingGuesses() : INITIAL_GUESSES);
-
-        // Handle word display logic
-        String wordToShow;
-        // Only show word if game has at least one guess or is completed
-        // This prevents showing the target word for games that were started but never
-        // played
-        if (guesses.isEmpty() && !game.isCompleted()) {
-            wordToShow = "[Hidden until first guess]"; // Hide word if no guesses were made and game is not completed
-        } else {
-            wordToShow = game.getWord().getWord(); // Show word normally
-        }
-
-        return new GameHistoryResponse.GameDetails(
-                game.getId(),
-                game.getDatePlayed(),
-                wordToShow,
-                game.isCompleted(),
-                game.getIsWon(),
-                game.getRemainingGuesses() != null ? game.getRemainingGuesses() : 0,
-                guessesUsed,
-                guessDetailsList);
-    }
-
     /**
      * Convert feedback string (GROGO) to display format for frontend
      */
@@ -545,82 +463,64 @@ public class GameService {
     /**
      * Get comprehensive admin reports with all system data
      * 
-     * @return comprehensive admin reports
+     * Built from a fixed number of aggregate queries, so neither the statement
+     * count nor the rows loaded grow with the number of games: players and
+     * recent registrations are one row per user, and the game reports are one
+     * keyset page (by game id).
+     * 
+     * @param afterId return game reports with a larger game id than this
+     * @param limit   game report page size
+     * @return comprehensive admin reports, with the cursor of the next game page
      */
-    public AdminReportsResponse getComprehensiveAdminReports() {
-        // Get all users
-        List<User> allUsers = userRepository.findAll();
-
-        // Separate users who have played games from just registered users
+    public AdminReportsResponse getComprehensiveAdminReports(long afterId, int limit) {
         // STRICT FILTERING: Only include users who have made at least 1 guess in any
         // game
-        List<AdminReportsResponse.PlayerReport> playerReports = allUsers.stream()
-                .filter(user -> {
-                    // Only include users who have made at least 1 guess in any game
-                    List<Game> userGames = gameRepository.findByUser(user);
-                    if (userGames.isEmpty()) {
-                        return false;
-                    }
-
-                    // Check if any game has at least one guess
-                    return userGames.stream().anyMatch(game -> guessRepository.countGuessesByGame(game) > 0);
-                })
-                .map(this::convertUserToPlayerReport)
+        List<AdminReportsResponse.PlayerReport> playerReports = gameRepository.findUserActivity(Game.Status.PLAYED)
+                .stream()
+                .map(GameService::toPlayerReport)
                 .collect(Collectors.toList());
 
-        // Get all games - ONLY those with at least one guess made
-        List<Game> allGames = gameRepository.findAll();
-        List<AdminReportsResponse.GameReport> gameReports = allGames.stream()
-                .filter(game -> game.getUser() != null && // Ensure game has a user
-                        guessRepository.countGuessesByGame(game) > 0 // Only include games with at least one guess
-                )
-                .map(this::convertGameToGameReport)
-                .collect(Collectors.toList());
-
-        // Calculate system statistics
-        AdminReportsResponse.SystemStatistics systemStats = calculateSystemStatistics(allUsers, allGames);
+        // Game reports - ONLY those with at least one guess made, one page
+        PageResponse<AdminReportsResponse.GameReport> gameReports = getGameReportsPage(afterId, limit);
 
         // Get recent user registrations (last 30 days) - ALL users regardless of game
-        // activity
-        LocalDate thirtyDaysAgo = LocalDate.now().minusDays(30);
-        List<AdminReportsResponse.UserRegistration> recentRegistrations = allUsers.stream()
-                .filter(user -> user.getCreatedAt() != null
-                        && !user.getCreatedAt().toLocalDate().isBefore(thirtyDaysAgo))
-                .map(user -> {
-                    // Add game count to registration info
-                    List<Game> userGames = gameRepository.findByUser(user);
-                    return new AdminReportsResponse.UserRegistration(
-                            user.getUsername(),
-                            user.getRole().name(),
-                            user.getCreatedAt(),
-                            userGames.size()); // Add game count
-                })
+        // activity, with their total game count
+        LocalDateTime since = LocalDate.now().minusDays(30).atStartOfDay();
+        List<AdminReportsResponse.UserRegistration> recentRegistrations = gameRepository
+                .findRegistrationsSince(since).stream()
+                .map(row -> new AdminReportsResponse.UserRegistration(
+                        (String) row[0],
+                        ((User.Role) row[1]).name(),
+                        (LocalDateTime) row[2],
+                        ((Number) row[3]).intValue()))
                 .collect(Collectors.toList());
 
         return new AdminReportsResponse(
                 playerReports,
-                gameReports,
+                gameReports.getItems(),
                 recentRegistrations,
-                systemStats);
+                getSystemStatistics(),
+                gameReports.getNextAfterId());
+    }
+
+    private static Map<Long, List<GameSummary>> groupByUser(List<GameSummary> summaries) {
+        Map<Long, List<GameSummary>> byUser = new HashMap<>();
+        for (GameSummary summary : summaries) {
+            byUser.computeIfAbsent(summary.userId(), id -> new ArrayList<>()).add(summary);
+        }
+        return byUser;
     }
 
     /**
-     * Convert User to PlayerReport
+     * Build a PlayerReport from the user's played games
      */
-    private AdminReportsResponse.PlayerReport convertUserToPlayerReport(User user) {
-        List<Game> userGames = gameRepository.findByUser(user);
-
-        // Filter games to only include those with at least one guess made
-        List<Game> gamesWithGuesses = userGames.stream()
-                .filter(game -> guessRepository.countGuessesByGame(game) > 0)
-                .collect(Collectors.toList());
-
-        int totalGames = gamesWithGuesses.size();
-        int wonGames = (int) gamesWithGuesses.stream().filter(game -> Boolean.TRUE.equals(game.getIsWon())).count();
+    private AdminReportsResponse.PlayerReport toPlayerReport(User user, List<GameSummary> games) {
+        int totalGames = games.size();
+        int wonGames = (int) games.stream().filter(game -> Boolean.TRUE.equals(game.isWon())).count();
 
         // Last played date from games with guesses
-        LocalDate lastPlayed = gamesWithGuesses.stream()
-                .map(Game::getDatePlayed)
+        LocalDate lastPlayed = games.stream()
+                .map(GameSummary::datePlayed)
                 .max(LocalDate::compareTo)
                 .orElse(null);
 
@@ -634,69 +534,18 @@ public class GameService {
     }
 
     /**
-     * Convert Game to GameReport - only if it has guesses
+     * Build a GameReport; every summarized game has guesses, so the word is shown
      */
-    private AdminReportsResponse.GameReport convertGameToGameReport(Game game) {
-        // Get actual guesses count from GuessRepository
-        int actualGuessesCount = guessRepository.countGuessesByGame(game);
-
-        // Handle case where no guesses made yet (placeholder word should be hidden)
-        String wordToShow;
-        if (actualGuessesCount == 0) {
-            wordToShow = "[Hidden until first guess]";
-        } else {
-            wordToShow = game.getWord().getWord();
-        }
-
-        // Use actual guesses made rather than calculating from remainingGuesses
+    private AdminReportsResponse.GameReport toGameReport(GameSummary game) {
+        String word = wordDictionary.wordOf(game.wordId());
         return new AdminReportsResponse.GameReport(
-                game.getId(),
-                game.getUser().getUsername(),
-                wordToShow,
-                game.getDatePlayed(),
-                game.isCompleted(),
-                game.getIsWon(),
-                actualGuessesCount);
-    }
-
-    /**
-     * Calculate comprehensive system statistics - only count games with guesses
-     */
-    private AdminReportsResponse.SystemStatistics calculateSystemStatistics(List<User> allUsers, List<Game> allGames) {
-        int totalUsers = allUsers.size();
-        int totalPlayers = (int) allUsers.stream().filter(user -> user.getRole() == User.Role.PLAYER).count();
-        int totalAdmins = (int) allUsers.stream().filter(user -> user.getRole() == User.Role.ADMIN).count();
-
-        // Filter to only include games with at least one guess
-        List<Game> gamesWithGuesses = allGames.stream()
-                .filter(game -> guessRepository.countGuessesByGame(game) > 0)
-                .collect(Collectors.toList());
-
-        int totalGames = gamesWithGuesses.size();
-        int completedGames = (int) gamesWithGuesses.stream().filter(Game::isCompleted).count();
-        int wonGames = (int) gamesWithGuesses.stream().filter(game -> Boolean.TRUE.equals(game.getIsWon())).count();
-        int lostGames = (int) gamesWithGuesses.stream().filter(game -> Boolean.FALSE.equals(game.getIsWon())).count();
-
-        double overallWinRate = completedGames > 0 ? (double) wonGames / completedGames * 100 : 0.0;
-
-        // Games played today (with guesses)
-        LocalDate today = LocalDate.now();
-        int gamesToday = (int) gamesWithGuesses.stream().filter(game -> game.getDatePlayed().equals(today)).count();
-
-        // Count total words in the database
-        long totalWords = wordRepository.count();
-
-        return new AdminReportsResponse.SystemStatistics(
-                totalUsers,
-                totalPlayers,
-                totalAdmins,
-                totalGames,
-                completedGames,
-                wonGames,
-                lostGames,
-                Math.round(overallWinRate * 100.0) / 100.0,
-                gamesToday,
-                totalWords);
+                game.gameId(),
+                game.username(),
+                word != null ? word : game.word(),
+                game.datePlayed(),
+                game.isWon() != null,
+                game.isWon(),
+                game.guessCount() != null ? game.guessCount() : 0);
     }
 
     /**
@@ -712,38 +561,15 @@ public class GameService {
 
         LocalDate today = LocalDate.now();
         List<User> allPlayers = userRepository.findByRole(User.Role.PLAYER);
+        Map<Long, List<GameSummary>> summariesByUser = groupByUser(gameRepository.findPlayedGameSummaries());
 
+        // Only include players whose games with guesses today match the count
         return allPlayers.stream()
-                .filter(user -> {
-                    // Only include users who have made at least 1 guess in any game
-                    List<Game> userGames = gameRepository.findByUser(user);
-                    if (userGames.isEmpty()) {
-                        return false;
-                    }
-
-                    // Check if any game has at least one guess
-                    boolean hasGuesses = userGames.stream()
-                            .anyMatch(game -> guessRepository.countGuessesByGame(game) > 0);
-                    if (!hasGuesses) {
-                        return false;
-                    }
-
-                    // Filter by today's games with guesses count
-                    List<Game> todayGames = userGames.stream()
-                            .filter(game -> game.getDatePlayed().equals(today))
-                            .collect(Collectors.toList());
-
-                    // Count games that have at least one guess
-                    int gamesWithGuesses = 0;
-                    for (Game game : todayGames) {
-                        if (guessRepository.countGuessesByGame(game) > 0) {
-                            gamesWithGuesses++;
-                        }
-                    }
-
-                    return gamesWithGuesses == gameCount;
-                })
-                .map(this::convertUserToPlayerReport)
+                .filter(user -> summariesByUser.containsKey(user.getId()))
+                .filter(user -> summariesByUser.get(user.getId()).stream()
+                        .filter(game -> game.datePlayed().equals(today))
+                        .count() == gameCount)
+                .map(user -> toPlayerReport(user, summariesByUser.get(user.getId())))
                 .collect(Collectors.toList());
     }
 
@@ -755,18 +581,10 @@ public class GameService {
      */
     public List<AdminReportsResponse.PlayerReport> getAllPlayerActivities() {
         List<User> allPlayers = userRepository.findByRole(User.Role.PLAYER);
+        Map<Long, List<GameSummary>> summariesByUser = groupByUser(gameRepository.findPlayedGameSummaries());
         return allPlayers.stream()
-                .filter(user -> {
-                    // ONLY include users who have made at least 1 guess in any game
-                    List<Game> userGames = gameRepository.findByUser(user);
-                    if (userGames.isEmpty()) {
-                        return false;
-                    }
-
-                    // Check if any game has at least one guess
-                    return userGames.stream().anyMatch(game -> guessRepository.countGuessesByGame(game) > 0);
-                })
-                .map(this::convertUserToPlayerReport)
+                .filter(user -> summariesByUser.containsKey(user.getId()))
+                .map(user -> toPlayerReport(user, summariesByUser.get(user.getId())))
                 .collect(Collectors.toList());
     }
 
@@ -776,9 +594,47 @@ public class GameService {
      * @return system-wide statistics
      */
     public AdminReportsResponse.SystemStatistics getSystemStatistics() {
-        List<User> allUsers = userRepository.findAll();
-        List<Game> allGames = gameRepository.findAll();
-        return calculateSystemStatistics(allUsers, allGames);
+        int totalUsers = 0;
+        int totalPlayers = 0;
+        int totalAdmins = 0;
+        int totalGames = 0;
+        int completedGames = 0;
+        int wonGames = 0;
+        int lostGames = 0;
+        int gamesToday = 0;
+
+        // One row per role; only games with guesses are counted
+        for (Object[] row : gameRepository.aggregateByRole(Game.Status.PLAYED, LocalDate.now())) {
+            int users = ((Number) row[1]).intValue();
+            totalUsers += users;
+            if (row[0] == User.Role.PLAYER) {
+                totalPlayers = users;
+            } else if (row[0] == User.Role.ADMIN) {
+                totalAdmins = users;
+            }
+            totalGames += ((Number) row[2]).intValue();
+            completedGames += ((Number) row[3]).intValue();
+            wonGames += ((Number) row[4]).intValue();
+            lostGames += ((Number) row[5]).intValue();
+            gamesToday += ((Number) row[6]).intValue();
+        }
+
+        double overallWinRate = completedGames > 0 ? (double) wonGames / completedGames * 100 : 0.0;
+
+        // Count total words in the database
+        long totalWords = wordRepository.count();
+
+        return new AdminReportsResponse.SystemStatistics(
+                totalUsers,
+                totalPlayers,
+                totalAdmins,
+                totalGames,
+                completedGames,
+                wonGames,
+                lostGames,
+                Math.round(overallWinRate * 100.0) / 100.0,
+                gamesToday,
+                totalWords);
     }
 
     /**
@@ -809,4 +665,180 @@ public class GameService {
                 })
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * Get one keyset page of game reports (games with at least one guess)
+     * 
+     * @param afterId return games with a larger id than this
+     * @param limit   page size
+     * @return the page, with the cursor of the next one
+     */
+    public PageResponse<AdminReportsResponse.GameReport> getGameReportsPage(long afterId, int limit) {
+        List<AdminReportsResponse.GameReport> items = gameRepository
+                .findGameSummariesAfter(Game.Status.PLAYED, afterId, PageRequest.ofSize(limit)).stream()
+                .map(this::toGameReport)
+                .collect(Collectors.toList());
+        return new PageResponse<>(items, nextAfterId(items, limit, AdminReportsResponse.GameReport::getGameId));
+    }
+
+    /**
+     * Pass every game report to the sink, straight from a database cursor
+     */
+    @Transactional(readOnly = true)
+    public void streamGameReports(Consumer<AdminReportsResponse.GameReport> sink) {
+        try (Stream<GameSummary> rows = gameRepository.streamGameSummaries(Game.Status.PLAYED)) {
+            rows.forEach(summary -> sink.accept(toGameReport(summary)));
+        }
+    }
+
+    /**
+     * Get one keyset page of player activities (players with at least one guess)
+     * 
+     * @param afterId return players with a larger user id than this
+     * @param limit   page size
+     * @return the page, with the cursor of the next one
+     */
+    public PageResponse<AdminReportsResponse.PlayerReport> getPlayerActivitiesPage(long afterId, int limit) {
+        List<Object[]> rows = gameRepository.findPlayerActivityAfter(Game.Status.PLAYED, User.Role.PLAYER, afterId,
+                PageRequest.ofSize(limit));
+        List<AdminReportsResponse.PlayerReport> items = rows.stream()
+                .map(GameService::toPlayerReport)
+                .collect(Collectors.toList());
+        Long next = rows.size() == limit ? (Long) rows.get(rows.size() - 1)[0] : null;
+        return new PageResponse<>(items, next);
+    }
+
+    /**
+     * Pass every player activity to the sink, straight from a database cursor
+     */
+    @Transactional(readOnly = true)
+    public void streamPlayerActivities(Consumer<AdminReportsResponse.PlayerReport> sink) {
+        try (Stream<Object[]> rows = gameRepository.streamPlayerActivity(Game.Status.PLAYED, User.Role.PLAYER)) {
+            rows.forEach(row -> sink.accept(toPlayerReport(row)));
+        }
+    }
+
+    /**
+     * Get one keyset page of a player's played games with their guesses
+     * 
+     * @param username the player's username
+     * @param afterId  return games with a larger id than this
+     * @param limit    page size
+     * @return the page, with the cursor of the next one
+     */
+    public PageResponse<GameHistoryResponse.GameDetails> getPlayerGameHistoryPage(String username, long afterId,
+            int limit) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+
+        List<GameLogRow> games = gameRepository.findGameLogsAfter(user.getId(), Game.Status.PLAYED, afterId,
+                PageRequest.ofSize(limit));
+        List<Long> withoutLog = games.stream()
+                .filter(game -> game.guessLog() == null)
+                .map(GameLogRow::gameId)
+                .toList();
+        List<GuessHistoryRow> guessRows = withoutLog.isEmpty() ? List.of()
+                : guessRepository.findHistoryRows(user.getId(), withoutLog);
+
+        List<GameHistoryResponse.GameDetails> items = new ArrayList<>();
+        addGuessRows(games.stream(), guessRows.iterator(), items::add);
+        return new PageResponse<>(items, nextAfterId(items, limit, GameHistoryResponse.GameDetails::getGameId));
+    }
+
+    /**
+     * Resolve a username before streaming, so a missing user is reported before
+     * the response starts
+     * 
+     * @throws IllegalArgumentException if the user does not exist
+     */
+    public Long getUserId(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username))
+                .getId();
+    }
+
+    /**
+     * The player's id from the token, or by username (a cached query) for tokens
+     * issued without one
+     */
+    private Long userIdOf(GamePrincipal player) {
+        return player.userId() != null ? player.userId() : getUserId(player.username());
+    }
+
+    /**
+     * Pass every played game of a player to the sink, straight from a database
+     * cursor
+     */
+    @Transactional(readOnly = true)
+    public void streamPlayerGameHistory(Long userId, Consumer<GameHistoryResponse.GameDetails> sink) {
+        try (Stream<GameLogRow> games = gameRepository.streamGameLogs(userId, Game.Status.PLAYED);
+                Stream<GuessHistoryRow> guessRows = guessRepository.streamHistoryRows(userId)) {
+            addGuessRows(games, guessRows.iterator(), sink);
+        }
+    }
+
+    private static AdminReportsResponse.PlayerReport toPlayerReport(Object[] row) {
+        return new AdminReportsResponse.PlayerReport(
+                (String) row[1],
+                ((User.Role) row[2]).name(),
+                (LocalDateTime) row[3],
+                ((Number) row[4]).intValue(),
+                row[5] != null ? ((Number) row[5]).intValue() : 0,
+                (LocalDate) row[6]);
+    }
+
+    /**
+     * One GameDetails per game, its guesses from the game's inline log or, for
+     * games without one, from the guess rows. Both are in game id order; rows of
+     * games that are not listed are skipped.
+     */
+    private void addGuessRows(Stream<GameLogRow> games, Iterator<GuessHistoryRow> guessRows,
+            Consumer<GameHistoryResponse.GameDetails> sink) {
+        GuessHistoryRow[] next = { guessRows.hasNext() ? guessRows.next() : null };
+        games.forEach(game -> {
+            GameHistoryResponse.GameDetails details = toGameDetails(game);
+            while (next[0] != null && next[0].gameId() <= game.gameId()) {
+                if (game.guessLog() == null && next[0].gameId().equals(game.gameId())) {
+                    details.getGuesses().add(newGuessDetails(next[0].guessNumber(), next[0].guessedWord(),
+                            next[0].feedback()));
+                }
+                next[0] = guessRows.hasNext() ? guessRows.next() : null;
+            }
+            sink.accept(details);
+        });
+    }
+
+    /**
+     * Unpack a game's inline guess log, if it has one
+     */
+    private GameHistoryResponse.GameDetails toGameDetails(GameLogRow row) {
+        GameHistoryResponse.GameDetails details = newGameDetails(row.gameId(), row.datePlayed(), row.wordId(),
+                row.word(), row.isWon(), row.remainingGuesses());
+        GuessLog log = row.guessLog();
+        for (int i = 0; log != null && i < log.size(); i++) {
+            details.getGuesses().add(newGuessDetails(i + 1, FeedbackEngine.toWord(log.word(i)),
+                    FeedbackEngine.decode(log.feedback(i))));
+        }
+        return details;
+    }
+
+    private GameHistoryResponse.GameDetails newGameDetails(Long gameId, LocalDate datePlayed, Long wordId,
+            String storedWord, Boolean won, Integer remainingGuesses) {
+        String word = wordDictionary.wordOf(wordId);
+        int remaining = remainingGuesses != null ? remainingGuesses : 0;
+        return new GameHistoryResponse.GameDetails(gameId, datePlayed, word != null ? word : storedWord,
+                won != null, won, remaining, INITIAL_GUESSES - remaining, new ArrayList<>());
+    }
+
+    private GameHistoryResponse.GuessDetails newGuessDetails(int guessNumber, String guessedWord, String feedback) {
+        return new GameHistoryResponse.GuessDetails(
+                guessNumber,
+                guessedWord,
+                feedback != null ? feedback : "",
+                feedback != null ? convertFeedbackToDisplay(feedback) : "");
+    }
+
+    private static <T> Long nextAfterId(List<T> items, int limit, Function<T, Long> id) {
+        return items.size() == limit ? id.apply(items.get(items.size() - 1)) : null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.game.service;
+
+import com.game.dto.GuessResponse;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * In-memory state of a game held by {@link GameSessionCache}. Mutations are
+ * persisted asynchronously, the database row may briefly lag behind.
+ */
+@Getter
+public class GameSession {
+
+    private final Long gameId;
+    private final Long userId;
+    private final LocalDate datePlayed;
+
+    @Setter
+    private Long wordId; // placeholder word until the first guess
+    @Setter
+    private String targetWord; // null until the first guess
+    @Setter
+    private int remainingGuesses;
+    @Setter
+    private Boolean won;
+    @Setter
+    private long version; // JPA version the next write expects
+    @Setter
+    private boolean guessLogged; // the game has an inline guess log, kept whatever the storage mode
+
+    private final List<GuessResponse.PreviousGuess> guesses = new ArrayList<>();
+
+    // Writes queued but not yet committed; the session must not be evicted
+    // while this is non-zero or a reload would miss them
+    private int pendingWrites;
+    // Set once a queued write has been given up on: the writes queued after it
+    // expect its version and are cancelled, and the session must be reloaded
+    private volatile boolean writeFailed;
+    private volatile long lastAccess = System.currentTimeMillis();
+
+    public GameSession(Long gameId, Long userId, LocalDate datePlayed, Long wordId, int remainingGuesses) {
+        this.gameId = gameId;
+        this.userId = userId;
+        this.datePlayed = datePlayed;
+        this.wordId = wordId;
+        this.remainingGuesses = remainingGuesses;
+    }
+
+    public boolean isCompleted() {
+        return won != null;
+    }
+
+    public List<GuessResponse.PreviousGuess> getGuesses() {
+        return Collections.unmodifiableList(guesses);
+    }
+
+    void addGuess(GuessResponse.PreviousGuess guess) {
+        guesses.add(guess);
+    }
+
+    /**
+     * Undo the last guess and the state it changed, after its write could not
+     * be queued. The first guess keeps its new target word; no guess was
+     * persisted against it, and the next first guess picks another one.
+     */
+    void rollBackLastGuess() {
+        guesses.remove(guesses.size() - 1);
+        remainingGuesses++;
+        won = null;
+        version--;
+        if (guesses.isEmpty()) {
+            targetWord = null;
+        }
+    }
+
+    /**
+     * @return the version the next write must match, advancing it for the one
+     *         after
+     */
+    long nextVersion() {
+        return version++;
+    }
+
+    void touch() {
+        lastAccess = System.currentTimeMillis();
+    }
+
+    synchronized void writeQueued() {
+        pendingWrites++;
+    }
+
+    synchronized void writeFinished() {
+        pendingWrites--;
+    }
+
+    /**
+     * Release a write that was never queued
+     *
+     * @return true if no other writes are still pending
+     */
+    synchronized boolean writeRefused() {
+        return --pendingWrites == 0;
+    }
+
+    void markWriteFailed() {
+        writeFailed = true;
+    }
+
+    boolean hasWriteFailed() {
+        return writeFailed;
+    }
+
+    synchronized boolean isEvictable() {
+        return pendingWrites == 0;
+    }
+}
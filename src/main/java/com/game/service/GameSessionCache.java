@@ -0,0 +1,498 @@
+package com.game.service;
+
+import com.game.dto.GuessResponse;
+import com.game.model.Game;
+import com.game.model.Guess;
+import com.game.model.GuessLog;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import com.game.repository.WordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-memory cache of game sessions with write-behind persistence.
+ *
+ * Guesses are applied to the cached {@link GameSession} and written to the
+ * games/guesses tables (or the game's inline log, see {@link GuessStorage}) by
+ * a single background writer, which keeps writes in submission order. Idle
+ * sessions are evicted once their writes have landed, and the write queue is
+ * drained on shutdown.
+ *
+ * The write queue is bounded: once it is full, callers wait for room and the
+ * request fails if none frees up in time, so a stalled database turns into
+ * backpressure instead of unbounded memory. Failed writes are retried; writes
+ * that are given up on (or still queued when shutdown times out) are logged
+ * and counted in game.write_behind.failed{reason}, next to the
+ * game.write_behind.queue.depth gauge.
+ *
+ * Work on one game is serialized through {@link #lockFor(Long)} (striped
+ * locks hashed by game id), and every write is checked against the game's
+ * JPA version so a writer elsewhere can never be silently overwritten. Once
+ * one of a game's writes is given up on, the writes queued after it (whose
+ * versions follow from it) are cancelled, and the game's next request fails
+ * and drops the session so the one after reloads the persisted state.
+ */
+@Component
+public class GameSessionCache {
+
+    // Power of two so the stripe index is a mask
+    private static final int LOCK_STRIPES = 256;
+
+    private static final Runnable NOTHING = () -> {
+    };
+
+    private final GameRepository gameRepository;
+    private final GuessRepository guessRepository;
+    private final WordRepository wordRepository;
+    private final WordDictionary wordDictionary;
+    private final PlayerStatsService playerStatsService;
+    private final DailyRollupService dailyRollupService;
+    private final GuessStorage guessStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxSessions;
+    private final long idleTimeoutMs;
+    private final int writeAttempts;
+    private final long retryBackoffMs;
+    private final long shutdownWaitMs;
+
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor writer;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public GameSessionCache(GameRepository gameRepository, GuessRepository guessRepository,
+            WordRepository wordRepository, WordDictionary wordDictionary, PlayerStatsService playerStatsService,
+            DailyRollupService dailyRollupService, GuessStorage guessStorage, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.sessions.max-size:10000}") int maxSessions,
+            @Value("${app.sessions.idle-timeout-ms:1800000}") long idleTimeoutMs,
+            @Value("${app.sessions.write-queue-capacity:10000}") int writeQueueCapacity,
+            @Value("${app.sessions.write-queue-wait-ms:2000}") long writeQueueWaitMs,
+            @Value("${app.sessions.write-attempts:3}") int writeAttempts,
+            @Value("${app.sessions.write-retry-backoff-ms:200}") long retryBackoffMs,
+            @Value("${app.sessions.shutdown-wait-ms:30000}") long shutdownWaitMs) {
+        this.gameRepository = gameRepository;
+        this.guessRepository = guessRepository;
+        this.wordRepository = wordRepository;
+        this.wordDictionary = wordDictionary;
+        this.playerStatsService = playerStatsService;
+        this.dailyRollupService = dailyRollupService;
+        this.guessStorage = guessStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxSessions = maxSessions;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.writeAttempts = Math.max(1, writeAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.shutdownWaitMs = shutdownWaitMs;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        // One thread keeps writes in order; a full queue makes the caller wait
+        // for room rather than growing without bound
+        this.writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(writeQueueCapacity), r -> new Thread(r, "game-write-behind"),
+                (task, executor) -> {
+                    try {
+                        if (executor.isShutdown()
+                                || !executor.getQueue().offer(task, writeQueueWaitMs, TimeUnit.MILLISECONDS)) {
+                            throw new RejectedExecutionException("Write-behind queue is full");
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for the write-behind queue");
+                    }
+                });
+        Gauge.builder("game.write_behind.queue.depth", writer, executor -> executor.getQueue().size())
+                .description("Writes waiting for the write-behind thread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Lock serializing all reads and mutations of one game's session. Games
+     * sharing a stripe also share the lock, which only costs contention.
+     */
+    public Lock lockFor(Long gameId) {
+        return stripeOf(gameId);
+    }
+
+    private ReentrantLock stripeOf(Long gameId) {
+        long h = gameId * 0x9E3779B97F4A7C15L; // spread sequential ids across stripes
+        return locks[(int) (h >>> 32) & (LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * Get the session for a game, loading it from the database on a miss.
+     * Must be called while holding {@link #lockFor(Long)}; never evicts, see
+     * {@link #evictIfFull()}.
+     *
+     * @throws IllegalArgumentException if the game does not exist
+     * @throws IllegalStateException    if some of the game's guesses could not
+     *                                  be saved; the session is dropped, so the
+     *                                  next call reloads the persisted state
+     */
+    public GameSession get(Long gameId) {
+        if (gameId == null) {
+            throw new IllegalArgumentException("Game not found");
+        }
+
+        GameSession session = sessions.get(gameId);
+        if (session != null && session.hasWriteFailed()) {
+            sessions.remove(gameId, session);
+            throw new IllegalStateException(
+                    "Your latest guesses on this game could not be saved, please reload the game");
+        }
+        if (session == null) {
+            GameSession loaded = load(gameId);
+            session = sessions.putIfAbsent(gameId, loaded);
+            if (session == null) {
+                session = loaded;
+            }
+        }
+        session.touch();
+        return session;
+    }
+
+    /**
+     * Register a freshly created game so its first guess is served from memory
+     */
+    public GameSession register(Game game) {
+        GameSession session = new GameSession(game.getId(), game.getUser().getId(), game.getDatePlayed(),
+                game.getWord().getId(), game.getRemainingGuesses());
+        session.setVersion(game.getVersion() != null ? game.getVersion() : 0L);
+        sessions.put(game.getId(), session);
+        return session;
+    }
+
+    /**
+     * Queue the persistence of a guess and the game state after it. Must be
+     * called while holding {@link #lockFor(Long)}. Values are captured now, so
+     * later mutations of the session are not observed by this write.
+     *
+     * @throws IllegalStateException if the write queue stayed full; the guess is
+     *                               not kept in the session either
+     */
+    public void persistGuess(GameSession session, GuessResponse.PreviousGuess guess) {
+        Long gameId = session.getGameId();
+        Long userId = session.getUserId();
+        Long wordId = session.getWordId();
+        LocalDate datePlayed = session.getDatePlayed();
+        int remainingGuesses = session.getRemainingGuesses();
+        Boolean won = session.getWon();
+        long version = session.nextVersion();
+        LocalDateTime createdAt = LocalDateTime.now();
+        // Inline storage rewrites the game's whole log instead of adding a row;
+        // so does a game that already has a log, which stays its only record
+        GuessLog guessLog = guessStorage.isInline() || session.isGuessLogged()
+                ? GuessStorage.toLog(session.getGuesses())
+                : null;
+
+        if (session.hasWriteFailed()) {
+            // An earlier write failed while this guess was being applied; it
+            // would only be cancelled behind it
+            session.rollBackLastGuess();
+            sessions.remove(gameId, session);
+            throw new IllegalStateException(
+                    "Your latest guesses on this game could not be saved, please reload the game");
+        }
+
+        session.writeQueued();
+        Runnable write = () -> {
+            int guessCount = guess.getGuessNumber();
+            Game.Status gameStatus = Game.Status.of(guessCount, won);
+            int updated;
+            if (guessLog != null) {
+                updated = gameRepository.updateProgressWithLog(gameId, wordRepository.getReferenceById(wordId),
+                        remainingGuesses, won, guessCount, gameStatus, version, guessLog);
+            } else {
+                Guess row = new Guess();
+                row.setGame(gameRepository.getReferenceById(gameId));
+                row.setGuessedWord(guess.getWord());
+                row.setGuessNumber(guess.getGuessNumber());
+                row.setFeedback(guess.getFeedback());
+                row.setCreatedAt(createdAt);
+                guessRepository.save(row);
+
+                updated = gameRepository.updateProgress(gameId, wordRepository.getReferenceById(wordId),
+                        remainingGuesses, won, guessCount, gameStatus, version);
+            }
+            if (updated == 0) {
+                // Rolls back the guess insert as well
+                throw new OptimisticLockException("Game " + gameId + " was modified concurrently");
+            }
+            if (won != null) {
+                playerStatsService.recordResult(userId, won, guess.getGuessNumber());
+            }
+            // Games from an earlier day change that day's stored report totals
+            dailyRollupService.invalidate(datePlayed);
+        };
+        try {
+            writer.execute(new QueuedWrite("guess " + guess.getGuessNumber() + " of game " + gameId, write,
+                    session, session::writeFinished));
+        } catch (RejectedExecutionException e) {
+            if (session.writeRefused()) {
+                // Everything else has landed, the next request reloads it
+                sessions.remove(gameId, session);
+            } else {
+                // Earlier guesses are still queued and a reload would miss
+                // them, so keep the session and take this guess back out
+                session.rollBackLastGuess();
+            }
+            failed("queue_full").increment();
+            throw new IllegalStateException("The server is busy and your guess was not recorded, please try again");
+        }
+    }
+
+    /**
+     * Run other writes on the write-behind thread, in order with queued guesses
+     */
+    public void submitWrite(Runnable work) {
+        try {
+            writer.execute(new QueuedWrite("background write", work, null, NOTHING));
+        } catch (RejectedExecutionException e) {
+            // Background writes are derived data that is rebuilt when missing
+            failed("queue_full").increment();
+            System.err.println("Write-behind queue is full, background write skipped");
+        }
+    }
+
+    /**
+     * Block until every write queued so far has been committed
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Write-behind flush failed", e);
+        }
+    }
+
+    public void evict(Long gameId) {
+        sessions.remove(gameId);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Drop sessions that have been idle longer than the timeout
+     */
+    @Scheduled(fixedDelayString = "${app.sessions.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMs;
+        for (GameSession session : sessions.values()) {
+            if (session.getLastAccess() < cutoff) {
+                tryEvict(session);
+            }
+        }
+    }
+
+    /**
+     * Keep the cache bounded: evict idle sessions first, then the least
+     * recently used ones without pending writes. Call it after releasing the
+     * game lock, so the session just used is not taken from under its caller.
+     */
+    public void evictIfFull() {
+        if (sessions.size() <= maxSessions) {
+            return;
+        }
+        evictIdle();
+
+        int excess = sessions.size() - maxSessions;
+        if (excess <= 0) {
+            return;
+        }
+        int toEvict = excess + maxSessions / 16;
+        List<GameSession> candidates = sessions.values().stream()
+                .filter(GameSession::isEvictable)
+                .sorted(Comparator.comparingLong(GameSession::getLastAccess))
+                .toList();
+        for (GameSession session : candidates) {
+            if (toEvict == 0) {
+                break;
+            }
+            if (tryEvict(session)) {
+                toEvict--;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Drain queued writes before the persistence layer goes away
+        writer.shutdown();
+        if (writer.awaitTermination(shutdownWaitMs, TimeUnit.MILLISECONDS)) {
+            return;
+        }
+        List<Runnable> unflushed = writer.shutdownNow();
+        failed("shutdown").increment(unflushed.size());
+        System.err.println("Write-behind queue did not drain within " + shutdownWaitMs + "ms, "
+                + unflushed.size() + " writes were not flushed:");
+        unflushed.forEach(write -> System.err.println("  " + write));
+    }
+
+    /**
+     * Run one write in its own transaction, retrying failures with a growing
+     * pause. A version conflict is not retried: the game was changed elsewhere
+     * and the session has to be reloaded instead.
+     *
+     * @return whether the write was committed
+     */
+    private boolean commit(QueuedWrite write) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write.work.run());
+                return true;
+            } catch (OptimisticLockException | OptimisticLockingFailureException e) {
+                return giveUp(write, "conflict", e);
+            } catch (RuntimeException e) {
+                if (attempt >= writeAttempts) {
+                    return giveUp(write, "error", e);
+                }
+                System.err.println("Write-behind of " + write + " failed (attempt " + attempt + "), retrying: "
+                        + e.getMessage());
+                try {
+                    Thread.sleep(retryBackoffMs * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return giveUp(write, "interrupted", e);
+                }
+            }
+        }
+    }
+
+    private boolean giveUp(QueuedWrite write, String reason, Exception e) {
+        failed(reason).increment();
+        System.err.println("Write-behind of " + write + " was not flushed (" + reason + "): " + e.getMessage());
+        return false;
+    }
+
+    private Counter failed(String reason) {
+        return Counter.builder("game.write_behind.failed").tag("reason", reason)
+                .description("Write-behind writes that never reached the database, by reason")
+                .register(meterRegistry);
+    }
+
+    /**
+     * A write on the queue, described by what it persists so unflushed writes
+     * can be reported
+     */
+    private final class QueuedWrite implements Runnable {
+        private final String description;
+        private final Runnable work;
+        private final GameSession session; // null for background writes
+        private final Runnable onFinished;
+
+        private QueuedWrite(String description, Runnable work, GameSession session, Runnable onFinished) {
+            this.description = description;
+            this.work = work;
+            this.session = session;
+            this.onFinished = onFinished;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (session != null && session.hasWriteFailed()) {
+                    // Its version follows from the failed write, it can only conflict
+                    failed("cancelled").increment();
+                    System.err.println("Write-behind of " + this + " cancelled after an earlier write failed");
+                } else if (!commit(this) && session != null) {
+                    // The next request on the game fails and drops the session
+                    session.markWriteFailed();
+                }
+            } finally {
+                onFinished.run();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private GameSession load(Long gameId) {
+        Game game = gameRepository.findWithWordById(gameId)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+        List<GuessResponse.PreviousGuess> guesses = loadGuesses(game);
+
+        GameSession session = new GameSession(game.getId(), game.getUser().getId(), game.getDatePlayed(),
+                game.getWord().getId(), game.getRemainingGuesses());
+        session.setWon(game.getIsWon());
+        session.setVersion(game.getVersion() != null ? game.getVersion() : 0L);
+        session.setGuessLogged(game.getGuessLog() != null);
+        if (!guesses.isEmpty()) {
+            String word = wordDictionary.wordOf(game.getWord().getId());
+            session.setTargetWord(word != null ? word : game.getWord().getWord());
+        }
+        guesses.forEach(session::addGuess);
+        return session;
+    }
+
+    /**
+     * Guesses from the inline log when the game has one, in either storage mode
+     * (it may have been played while storage was inline), otherwise from the
+     * guesses table
+     */
+    private List<GuessResponse.PreviousGuess> loadGuesses(Game game) {
+        if (game.getGuessLog() != null) {
+            return GuessStorage.fromLog(game.getGuessLog());
+        }
+        if (game.getGuessCount() != null && game.getGuessCount() == 0) {
+            return List.of(); // nothing to look up
+        }
+        return guessRepository.findByGameOrderByGuessNumber(game).stream()
+                .map(guess -> new GuessResponse.PreviousGuess(guess.getGuessedWord(), guess.getFeedback(),
+                        guess.getGuessNumber()))
+                .toList();
+    }
+
+    /**
+     * A session may only go if nobody is working on it and its writes landed.
+     * It is removed while the lock is held, so nobody can pick it up in
+     * between; a stripe this thread already holds (tryLock would re-enter it)
+     * is left alone.
+     *
+     * @return whether the session was evicted
+     */
+    private boolean tryEvict(GameSession session) {
+        ReentrantLock lock = stripeOf(session.getGameId());
+        if (lock.isHeldByCurrentThread() || !lock.tryLock()) {
+            return false;
+        }
+        try {
+            return session.isEvictable() && sessions.remove(session.getGameId(), session);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
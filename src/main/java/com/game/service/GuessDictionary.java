@@ -0,0 +1,167 @@
+package com.game.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Dictionary of words accepted as guesses.
+ *
+ * Every five-letter word maps to a unique slot in [0, 26^5) (base-26 over its
+ * letters), so membership is a single bit test in a 1.5 MB bitmap: an exact
+ * perfect hash with no false positives and no allocation on lookup. The list
+ * is loaded from {@code app.guesses.path} (the bundled allowed-guesses.txt by
+ * default) plus every target word in {@link WordDictionary}, and is reloaded
+ * when the file changes. With the path set to blank, or pointing at a missing
+ * list, any five-letter word is accepted.
+ */
+@Component
+public class GuessDictionary {
+
+    private static final int SLOTS = 26 * 26 * 26 * 26 * 26;
+
+    private final ResourceLoader resourceLoader;
+    private final WordDictionary wordDictionary;
+    private final String path;
+
+    // Replaced wholesale on reload, single words are set in place; null means
+    // no list is configured (accept all)
+    private volatile AtomicLongArray allowed;
+    private volatile boolean loaded;
+    private volatile long loadedModified;
+
+    public GuessDictionary(ResourceLoader resourceLoader, WordDictionary wordDictionary,
+            @Value("${app.guesses.path:classpath:allowed-guesses.txt}") String path) {
+        this.resourceLoader = resourceLoader;
+        this.wordDictionary = wordDictionary;
+        this.path = path;
+    }
+
+    /**
+     * Check whether a word may be submitted as a guess
+     *
+     * @param word a word already validated by {@link FeedbackEngine#encode}
+     */
+    public boolean isAllowed(CharSequence word) {
+        AtomicLongArray bits = current();
+        if (bits == null) {
+            return true;
+        }
+        int slot = slotOf(word);
+        return (bits.get(slot >>> 6) & (1L << slot)) != 0;
+    }
+
+    /**
+     * Accept a word from now on (used when admins add target words)
+     */
+    public synchronized void allow(String word) {
+        AtomicLongArray bits = current();
+        if (bits != null && FeedbackEngine.isEncodable(word)) {
+            set(bits, word);
+        }
+    }
+
+    /**
+     * Rebuild the bitmap from the configured list and the target dictionary
+     */
+    public synchronized void reload() {
+        if (path.isBlank()) {
+            System.out.println("No allowed guesses list configured, accepting any five-letter word");
+            acceptAll();
+            return;
+        }
+        Resource resource = resourceLoader.getResource(path);
+        if (!resource.exists()) {
+            System.err.println("Allowed guesses list not found at " + path + ", accepting any five-letter word");
+            acceptAll();
+            return;
+        }
+
+        AtomicLongArray bits = new AtomicLongArray((SLOTS + 63) >>> 6);
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim();
+                if (!word.startsWith("#") && FeedbackEngine.isEncodable(word)) {
+                    set(bits, word);
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load allowed guesses from " + path, e);
+        }
+
+        for (int i = 0; i < wordDictionary.size(); i++) {
+            set(bits, wordDictionary.wordAt(i));
+        }
+
+        allowed = bits;
+        loadedModified = lastModified(resource);
+        loaded = true;
+        System.out.println("Loaded " + count + " allowed guesses from " + path);
+    }
+
+    /**
+     * Hot reload: pick up edits to a file-based list without a restart
+     */
+    @Scheduled(fixedDelayString = "${app.guesses.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        if (loadedModified <= 0) {
+            return;
+        }
+        long modified = lastModified(resourceLoader.getResource(path));
+        if (modified > loadedModified) {
+            reload();
+        }
+    }
+
+    private void acceptAll() {
+        allowed = null;
+        loadedModified = 0;
+        loaded = true;
+    }
+
+    private AtomicLongArray current() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+        return allowed;
+    }
+
+    private static void set(AtomicLongArray bits, CharSequence word) {
+        int slot = slotOf(word);
+        long mask = 1L << slot;
+        bits.getAndAccumulate(slot >>> 6, mask, (current, bit) -> current | bit);
+    }
+
+    private static int slotOf(CharSequence word) {
+        int slot = 0;
+        for (int i = 0; i < FeedbackEngine.WORD_LENGTH; i++) {
+            slot = slot * 26 + (Character.toUpperCase(word.charAt(i)) - 'A');
+        }
+        return slot;
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            // Classpath resources inside a jar have no modification time
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.game.service;
+
+import com.game.model.GuessLog;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Converts the guesses rows of existing games into inline guess logs when
+ * guess storage is inline. Runs at startup, before the web server accepts
+ * requests, so no game is played while its rows are converted; one id range
+ * per transaction, skipping games that already have a log, so an interrupted
+ * run resumes on the next start. The guesses rows are kept, so storage can be
+ * switched back to rows for games played before the switch.
+ */
+@Component
+// GameBackfillJob fills in the guess counts of legacy games first
+@DependsOn("gameBackfillJob")
+public class GuessLogMigrationJob {
+
+    private final GameRepository gameRepository;
+    private final GuessRepository guessRepository;
+    private final GuessStorage guessStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public GuessLogMigrationJob(GameRepository gameRepository, GuessRepository guessRepository,
+            GuessStorage guessStorage, PlatformTransactionManager transactionManager,
+            @Value("${app.games.backfill-chunk-size:5000}") int chunkSize) {
+        this.gameRepository = gameRepository;
+        this.guessRepository = guessRepository;
+        this.guessStorage = guessStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @PostConstruct
+    public void run() {
+        if (!guessStorage.isInline()) {
+            return;
+        }
+        List<Object[]> range = gameRepository.findGuessLogMigrationRange();
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return;
+        }
+        long minId = ((Number) range.get(0)[0]).longValue();
+        long maxId = ((Number) range.get(0)[1]).longValue();
+
+        long migrated = 0;
+        for (long from = minId; from <= maxId; from += chunkSize) {
+            long to = Math.min(maxId, from + chunkSize - 1);
+            long chunkFrom = from;
+            Integer count = transactionTemplate.execute(status -> migrate(chunkFrom, to));
+            migrated += count != null ? count : 0;
+        }
+        System.out.println("Migrated the guesses of " + migrated + " games to inline guess logs");
+    }
+
+    /**
+     * @return the number of games given a log
+     */
+    private int migrate(long fromId, long toId) {
+        int migrated = 0;
+        Long gameId = null;
+        GuessLog log = GuessLog.EMPTY;
+        // Rows are ordered by game, then guess number
+        for (Object[] row : guessRepository.findUnmigratedGuesses(fromId, toId)) {
+            if (!row[0].equals(gameId)) {
+                migrated += store(gameId, log);
+                gameId = (Long) row[0];
+                log = GuessLog.EMPTY;
+            }
+            log = append(gameId, log, (String) row[1], (String) row[2]);
+        }
+        return migrated + store(gameId, log);
+    }
+
+    private GuessLog append(Long gameId, GuessLog log, String word, String feedback) {
+        if (log == null) {
+            return null; // game already found unconvertible
+        }
+        try {
+            return log.append(FeedbackEngine.encode(word), FeedbackEngine.parse(feedback));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            System.err.println("Game " + gameId + " left in the guesses table: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private int store(Long gameId, GuessLog log) {
+        if (gameId == null || log == null) {
+            return 0;
+        }
+        return gameRepository.migrateGuessLog(gameId, log);
+    }
+}
@@ -0,0 +1,63 @@
+package com.game.service;
+
+import com.game.dto.GuessResponse;
+import com.game.model.GuessLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Where the guesses of a game are stored, set by app.games.guess-storage:
+ * 
+ * rows (default) - one guesses row per guess.
+ * inline - packed into games.guess_log (see {@link GuessLog}), so a game and
+ * its guesses are read and written as a single row. Existing rows are
+ * converted by {@link GuessLogMigrationJob}.
+ *
+ * The mode only decides how games without a log are stored. A game that has a
+ * log keeps it as the record of its guesses in either mode, so switching back
+ * to rows loses nothing.
+ */
+@Component
+public class GuessStorage {
+
+    public enum Mode {
+        ROWS, INLINE
+    }
+
+    private final Mode mode;
+
+    public GuessStorage(@Value("${app.games.guess-storage:rows}") String mode) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase());
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isInline() {
+        return mode == Mode.INLINE;
+    }
+
+    /**
+     * Pack a game's guesses, in guess number order
+     */
+    public static GuessLog toLog(List<GuessResponse.PreviousGuess> guesses) {
+        GuessLog log = GuessLog.EMPTY;
+        for (GuessResponse.PreviousGuess guess : guesses) {
+            log = log.append(FeedbackEngine.encode(guess.getWord()), FeedbackEngine.parse(guess.getFeedback()));
+        }
+        return log;
+    }
+
+    public static List<GuessResponse.PreviousGuess> fromLog(GuessLog log) {
+        List<GuessResponse.PreviousGuess> guesses = new ArrayList<>(log.size());
+        for (int i = 0; i < log.size(); i++) {
+            guesses.add(new GuessResponse.PreviousGuess(FeedbackEngine.toWord(log.word(i)),
+                    FeedbackEngine.decode(log.feedback(i)), i + 1));
+        }
+        return guesses;
+    }
+}
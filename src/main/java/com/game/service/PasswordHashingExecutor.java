@@ -0,0 +1,83 @@
+package com.game.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated pool for password hashing (BCrypt), so a burst of logins queues
+ * here instead of occupying the web server's request threads.
+ *
+ * The queue is bounded; once it is full further work is refused with
+ * {@link TooManyRequestsException} rather than left to wait. Publishes
+ * login.hash (time spent hashing, its count is the throughput), login.queue.wait
+ * (time from submission to start), login.queue.depth and
+ * login.rejected{reason=queue_full}.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+            @Value("${app.login.hash-threads:0}") int threads,
+            @Value("${app.login.queue-capacity:64}") int queueCapacity) {
+        // BCrypt is CPU bound: by default one thread per core
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> new Thread(r, "password-hashing-" + threadCount.incrementAndGet()));
+
+        this.hashTimer = Timer.builder("login.hash").description("Password hashing time")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("login.queue.wait").description("Time queued before hashing started")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("login.rejected").tag("reason", "queue_full")
+                .description("Login attempts refused, by reason")
+                .register(meterRegistry);
+        Gauge.builder("login.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Logins waiting for a hashing thread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run hashing work on the pool
+     * 
+     * @param task the work, e.g. a password check
+     * @return the task's result, completed on a hashing thread
+     * @throws TooManyRequestsException if the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many logins in progress, please try again shortly", 1);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,111 @@
+package com.game.service;
+
+import com.game.model.GuessLog;
+import com.game.model.PlayerStats;
+import com.game.repository.GameRepository;
+import com.game.repository.PlayerStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maintains the materialized {@link PlayerStats} of each player.
+ *
+ * Rows are only written from the write-behind thread of
+ * {@link GameSessionCache}, which applies game results in completion order, so
+ * streaks stay correct without locking. Players without a row (history from
+ * before the table existed) are rebuilt once from their completed games.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlayerStatsService {
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final GameRepository gameRepository;
+
+    /**
+     * Stored stats of a player, if they have been materialized
+     */
+    public Optional<PlayerStats> find(Long userId) {
+        return playerStatsRepository.findById(userId);
+    }
+
+    /**
+     * Fold a finished game into the player's stats. Must run in the transaction
+     * that completed the game.
+     */
+    public void recordResult(Long userId, boolean won, int guessCount) {
+        Optional<PlayerStats> existing = playerStatsRepository.findById(userId);
+        if (existing.isEmpty()) {
+            // The rebuild already sees this game's updated row
+            playerStatsRepository.save(rebuild(userId));
+            return;
+        }
+        PlayerStats stats = existing.get();
+        apply(stats, won, guessCount);
+        playerStatsRepository.save(stats);
+    }
+
+    /**
+     * Store the rebuilt stats of a player who has no row yet
+     */
+    public void materialize(Long userId) {
+        if (!playerStatsRepository.existsById(userId)) {
+            playerStatsRepository.save(rebuild(userId));
+        }
+    }
+
+    /**
+     * Recompute a player's stats from their completed games, oldest first
+     */
+    public PlayerStats rebuild(Long userId) {
+        PlayerStats stats = new PlayerStats(userId);
+        List<Object[]> results = gameRepository.findResultsByUser(userId);
+        for (Object[] row : results) {
+            apply(stats, (Boolean) row[0], guessCount((Number) row[1], (Number) row[2]));
+        }
+        return stats;
+    }
+
+    /**
+     * Guess count of a completed game. Legacy games have none until
+     * {@link GameBackfillJob} reaches them; every guess used one of the
+     * game's guesses, so it follows from the remaining ones.
+     */
+    private static int guessCount(Number guessCount, Number remainingGuesses) {
+        if (guessCount != null) {
+            return guessCount.intValue();
+        }
+        return remainingGuesses == null ? 0 : GuessLog.MAX_GUESSES - remainingGuesses.intValue();
+    }
+
+    /**
+     * Fold one completed game into the stats. Both {@link #recordResult} and
+     * {@link #rebuild} go through here, so they count the same games: one that
+     * ended without a guess (legacy rows) does not count at all.
+     */
+    private static void apply(PlayerStats stats, boolean won, int guessCount) {
+        if (guessCount <= 0) {
+            return;
+        }
+        stats.setTotalGames(stats.getTotalGames() + 1);
+        if (!won) {
+            stats.setCurrentStreak(0);
+            return;
+        }
+
+        stats.setGamesWon(stats.getGamesWon() + 1);
+        stats.setCurrentStreak(stats.getCurrentStreak() + 1);
+        stats.setLongestStreak(Math.max(stats.getLongestStreak(), stats.getCurrentStreak()));
+        stats.setWonGuessSum(stats.getWonGuessSum() + guessCount);
+        switch (guessCount) {
+            case 1 -> stats.setWinsIn1(stats.getWinsIn1() + 1);
+            case 2 -> stats.setWinsIn2(stats.getWinsIn2() + 1);
+            case 3 -> stats.setWinsIn3(stats.getWinsIn3() + 1);
+            case 4 -> stats.setWinsIn4(stats.getWinsIn4() + 1);
+            default -> stats.setWinsIn5(stats.getWinsIn5() + 1);
+        }
+    }
+}
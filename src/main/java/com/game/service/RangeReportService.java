@@ -0,0 +1,188 @@
+package com.game.service;
+
+import com.game.dto.DailyReportResponse;
+import com.game.repository.GameRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Report series over a date range, bucketed by day or ISO week.
+ *
+ * The range is split into consecutive sub-ranges of days, one per report
+ * thread, which are fetched and aggregated concurrently and merged at the
+ * end, so latency drops with the number of threads (by default one per core,
+ * up to {@link #DEFAULT_MAX_THREADS}). Each sub-range is read in chunks,
+ * keyset-paginated on (date played, id) so every chunk is a range scan of
+ * idx_games_date_played. A thread holds one chunk at a time; beyond that,
+ * memory grows only with the buckets and the distinct players in each.
+ *
+ * The threads are shared by all reports, which bounds the database
+ * connections range reports can hold at once.
+ */
+@Service
+public class RangeReportService {
+
+    // A year of daily buckets is plenty for charting
+    private static final int MAX_RANGE_DAYS = 366;
+
+    // Every thread holds a connection while it fetches; stay well below the
+    // connection pool
+    private static final int DEFAULT_MAX_THREADS = 4;
+
+    private final GameRepository gameRepository;
+    private final int chunkSize;
+    private final int threads;
+    private final ExecutorService executor;
+
+    public RangeReportService(GameRepository gameRepository,
+            @Value("${app.reports.range-chunk-size:5000}") int chunkSize,
+            @Value("${app.reports.range-threads:0}") int threads) {
+        this.gameRepository = gameRepository;
+        this.chunkSize = chunkSize;
+        this.threads = threads > 0 ? threads
+                : Math.min(Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_THREADS);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.threads,
+                r -> new Thread(r, "range-report-" + threadCount.incrementAndGet()));
+    }
+
+    /**
+     * Build a report series
+     * 
+     * @param from   first day (inclusive)
+     * @param to     last day (inclusive)
+     * @param bucket "day" or "week" (weeks start on Monday)
+     * @return one report per bucket in the range, oldest first, including
+     *         empty ones
+     * @throws IllegalArgumentException if the range or bucket is invalid
+     */
+    public List<DailyReportResponse> getRangeReport(LocalDate from, LocalDate to, String bucket) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+        boolean weekly;
+        if ("day".equalsIgnoreCase(bucket)) {
+            weekly = false;
+        } else if ("week".equalsIgnoreCase(bucket)) {
+            weekly = true;
+        } else {
+            throw new IllegalArgumentException("Bucket must be 'day' or 'week'");
+        }
+
+        // Split the days evenly over the threads; each part is fetched and
+        // aggregated on its own, then all of them are merged
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        int parts = Math.min(threads, days);
+        List<CompletableFuture<Map<LocalDate, Bucket>>> partials = new ArrayList<>();
+        for (int i = 0; i < parts; i++) {
+            LocalDate partFrom = from.plusDays((long) days * i / parts);
+            LocalDate partTo = from.plusDays((long) days * (i + 1) / parts - 1);
+            partials.add(CompletableFuture.supplyAsync(() -> aggregate(partFrom, partTo, weekly), executor));
+        }
+        Map<LocalDate, Bucket> merged = new HashMap<>();
+        for (CompletableFuture<Map<LocalDate, Bucket>> partial : partials) {
+            partial.join().forEach((start, b) -> merged.merge(start, b, Bucket::merge));
+        }
+
+        List<DailyReportResponse> series = new ArrayList<>();
+        for (LocalDate start = bucketStart(from, weekly); !start.isAfter(to); start = start
+                .plusDays(weekly ? 7 : 1)) {
+            series.add(merged.getOrDefault(start, new Bucket()).toResponse(start));
+        }
+        return series;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Aggregate the games of a sub-range, walking it in keyset chunks
+     */
+    private Map<LocalDate, Bucket> aggregate(LocalDate from, LocalDate to, boolean weekly) {
+        Map<LocalDate, Bucket> buckets = new HashMap<>();
+        Pageable chunk = PageRequest.ofSize(chunkSize);
+        LocalDate afterDate = from;
+        long afterId = 0;
+        List<Object[]> rows;
+        do {
+            rows = gameRepository.findReportRowsAfter(afterDate, afterId, to, chunk);
+            for (Object[] row : rows) {
+                LocalDate start = bucketStart((LocalDate) row[2], weekly);
+                buckets.computeIfAbsent(start, s -> new Bucket()).add((Long) row[1], (Boolean) row[3],
+                        (Integer) row[4]);
+            }
+            if (!rows.isEmpty()) {
+                Object[] last = rows.get(rows.size() - 1);
+                afterId = (Long) last[0];
+                afterDate = (LocalDate) last[2];
+            }
+        } while (rows.size() == chunkSize);
+        return buckets;
+    }
+
+    private static LocalDate bucketStart(LocalDate date, boolean weekly) {
+        return weekly ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date;
+    }
+
+    /**
+     * Mergeable totals of one bucket
+     */
+    private static final class Bucket {
+        private final Set<Long> users = new HashSet<>();
+        private int games;
+        private int won;
+        private int lost;
+        private long guesses;
+
+        void add(Long userId, Boolean isWon, Integer guessCount) {
+            users.add(userId);
+            games++;
+            if (Boolean.TRUE.equals(isWon)) {
+                won++;
+            } else if (Boolean.FALSE.equals(isWon)) {
+                lost++;
+            }
+            guesses += guessCount != null ? guessCount : 0;
+        }
+
+        Bucket merge(Bucket other) {
+            users.addAll(other.users);
+            games += other.games;
+            won += other.won;
+            lost += other.lost;
+            guesses += other.guesses;
+            return this;
+        }
+
+        DailyReportResponse toResponse(LocalDate start) {
+            int completed = won + lost;
+            double winRate = games > 0 ? (won * 100.0 / games) : 0.0;
+            double averageGuesses = completed > 0 ? (guesses * 1.0 / completed) : 0.0;
+            return new DailyReportResponse(start, users.size(), games, won, lost, games - completed, winRate,
+                    (int) guesses, averageGuesses);
+        }
+    }
+}
@@ -3,28 +3,33 @@ package com.game.service;
 import com.game.dto.DailyReportResponse;
 import com.game.dto.UserReportResponse;
 import com.game.dto.WinReportsResponse;
+import com.game.model.DailyRollup;
 import com.game.model.Game;
-import com.game.model.Guess;
 import com.game.model.User;
 import com.game.repository.GameRepository;
-import com.game.repository.GuessRepository;
 import com.game.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ReportService {
 
         private final GameRepository gameRepository;
-        private final GuessRepository guessRepository;
         private final UserRepository userRepository;
+        private final DailyRollupService dailyRollupService;
+
+        // Bounds used when a report has no date range (portable across databases)
+        static final LocalDate EARLIEST_DATE = LocalDate.of(1970, 1, 1);
+        static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
 
         /**
          * Generate daily report for a specific date
@@ -33,105 +38,84 @@ public class ReportService {
          * @return DailyReportResponse with statistics for the day
          */
         public DailyReportResponse getDailyReport(LocalDate date) {
-                // Get all games played on the specified date
-                List<Game> gamesOnDate = gameRepository.findAll().stream()
-                                .filter(game -> game.getDatePlayed().equals(date))
-                                .collect(Collectors.toList());
-
-                // Count unique users who played on this date
-                int totalUsers = (int) gamesOnDate.stream()
-                                .map(Game::getUser)
-                                .distinct()
-                                .count();
-
-                int totalGames = gamesOnDate.size();
-
-                // Count games by status
-                int gamesWon = (int) gamesOnDate.stream()
-                                .filter(game -> Boolean.TRUE.equals(game.getIsWon()))
-                                .count();
-
-                int gamesLost = (int) gamesOnDate.stream()
-                                .filter(game -> Boolean.FALSE.equals(game.getIsWon()))
-                                .count();
+                // Past days are a rollup row read, today a single indexed aggregate
+                DailyRollup rollup = dailyRollupService.get(date);
 
+                int totalGames = rollup.getTotalGames();
+                int gamesWon = rollup.getGamesWon();
+                int gamesLost = rollup.getGamesLost();
                 int gamesInProgress = totalGames - gamesWon - gamesLost;
 
                 // Calculate win rate
                 double winRate = totalGames > 0 ? (gamesWon * 100.0 / totalGames) : 0.0;
 
-                // Count total guesses made on this date
-                int totalGuessesCount = gamesOnDate.stream()
-                                .mapToInt(game -> guessRepository.countGuessesByGame(game))
-                                .sum();
-
                 // Calculate average guesses per completed game
+                int totalGuessesCount = (int) rollup.getTotalGuesses();
                 int completedGames = gamesWon + gamesLost;
                 double averageGuessesPerGame = completedGames > 0 ? (totalGuessesCount * 1.0 / completedGames) : 0.0;
 
-                return new DailyReportResponse(date, totalUsers, totalGames, gamesWon, gamesLost,
+                return new DailyReportResponse(date, rollup.getTotalUsers(), totalGames, gamesWon, gamesLost,
                                 gamesInProgress, winRate, totalGuessesCount, averageGuessesPerGame);
         }
 
         /**
-         * Generate user-specific report
+         * Look up the id of the user a report is generated for
          * 
          * @param username the username to generate report for
-         * @return UserReportResponse with user's game history and statistics
+         * @return the user's id
          */
-        public UserReportResponse getUserReport(String username) {
-                // Find the user
-                User user = userRepository.findByUsername(username)
+        public Long getUserId(String username) {
+                return userRepository.findByUsername(username)
+                                .map(User::getId)
                                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+        }
+
+        /**
+         * Pass a user's report for a date range to the sink, one day at a time
+         * 
+         * Streams the user's games from an indexed query (newest day first) and
+         * groups consecutive rows by date, so only one day is held at a time.
+         * 
+         * @param userId the user to generate report for
+         * @param from   first day to include, or null for no lower bound
+         * @param to     last day to include, or null for no upper bound
+         * @param sink   receives each day's report, newest day first
+         */
+        @Transactional(readOnly = true)
+        public void streamUserReport(Long userId, LocalDate from, LocalDate to,
+                        Consumer<UserReportResponse.UserGameReport> sink) {
+                try (Stream<Object[]> rows = gameRepository.streamUserGames(userId,
+                                from != null ? from : EARLIEST_DATE, to != null ? to : LATEST_DATE)) {
+                        List<UserReportResponse.GameDetails> day = new ArrayList<>();
+                        for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                                LocalDate date = (LocalDate) row[1];
+                                if (!day.isEmpty() && !day.get(0).getDatePlayed().equals(date)) {
+                                        sink.accept(toUserGameReport(day));
+                                        day = new ArrayList<>();
+                                }
+                                // The word of a game nobody guessed on is a placeholder; do not leak it
+                                Game.Status status = Game.Status.of((Game.Status) row[5], (Integer) row[3],
+                                                (Boolean) row[2]);
+                                String wordToShow = row[4] == null || status == Game.Status.NEW ? "[No word yet]"
+                                                : (String) row[4];
+                                day.add(new UserReportResponse.GameDetails(
+                                                (Long) row[0],
+                                                wordToShow,
+                                                Boolean.TRUE.equals(row[2]),
+                                                row[3] != null ? (Integer) row[3] : 0,
+                                                date));
+                        }
+                        if (!day.isEmpty()) {
+                                sink.accept(toUserGameReport(day));
+                        }
+                }
+        }
 
-                // Get all games for this user
-                List<Game> userGames = gameRepository.findAll().stream()
-                                .filter(game -> game.getUser().equals(user))
-                                .collect(Collectors.toList());
-
-                // Group games by date
-                Map<LocalDate, List<Game>> gamesByDate = userGames.stream()
-                                .collect(Collectors.groupingBy(Game::getDatePlayed));
-
-                // Generate report for each date
-                List<UserReportResponse.UserGameReport> gameReports = gamesByDate.entrySet().stream()
-                                .map(entry -> {
-                                        LocalDate date = entry.getKey();
-                                        List<Game> gamesOnDate = entry.getValue();
-
-                                        int wordsAttempted = gamesOnDate.size();
-                                        int correctGuesses = (int) gamesOnDate.stream()
-                                                        .filter(game -> Boolean.TRUE.equals(game.getIsWon()))
-                                                        .count();
-
-                                        int totalGuesses = gamesOnDate.stream()
-                                                        .mapToInt(game -> guessRepository.countGuessesByGame(game))
-                                                        .sum();
-
-                                        // Get game details
-                                        List<UserReportResponse.GameDetails> gameDetails = gamesOnDate.stream()
-                                                        .map(game -> {
-                                                                String wordToShow = (game.getWord() == null)
-                                                                                ? "[No word yet]"
-                                                                                : game.getWord().getWord();
-                                                                return new UserReportResponse.GameDetails(
-                                                                                game.getId(),
-                                                                                wordToShow,
-                                                                                Boolean.TRUE.equals(game.getIsWon()),
-                                                                                guessRepository.countGuessesByGame(
-                                                                                                game),
-                                                                                game.getDatePlayed());
-                                                        })
-                                                        .collect(Collectors.toList());
-
-                                        return new UserReportResponse.UserGameReport(
-                                                        date, wordsAttempted, correctGuesses, totalGuesses,
-                                                        gameDetails);
-                                })
-                                .sorted((r1, r2) -> r2.getDate().compareTo(r1.getDate())) // Sort by date descending
-                                .collect(Collectors.toList());
-
-                return new UserReportResponse(username, gameReports);
+        private static UserReportResponse.UserGameReport toUserGameReport(List<UserReportResponse.GameDetails> games) {
+                int correctGuesses = (int) games.stream().filter(UserReportResponse.GameDetails::isWon).count();
+                int totalGuesses = games.stream().mapToInt(UserReportResponse.GameDetails::getGuessesUsed).sum();
+                return new UserReportResponse.UserGameReport(
+                                games.get(0).getDatePlayed(), games.size(), correctGuesses, totalGuesses, games);
         }
 
         /**
@@ -202,4 +186,4 @@ public class ReportService {
                         );
                 }).collect(Collectors.toList());
         }
-}
\ No newline at end of file
+}
@@ -0,0 +1,234 @@
+package com.game.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compact set of the words a user has already played.
+ *
+ * In memory it is a bitmap over the positions of one {@link WordDictionary}
+ * snapshot, sized from the dictionary, so membership tests are a bit test and
+ * the dictionary can pick the k-th unseen word with one popcount per 64 words.
+ * Positions change when the dictionary is reloaded, so the set also keeps the
+ * ids of the snapshot it belongs to; the dictionary maps it onto a newer one
+ * before drawing from it.
+ *
+ * On disk it holds word ids, in whichever of two roaring-style containers is
+ * smaller: a sorted array of varint deltas (sparse users) or a bitmap over the
+ * id range (users who have seen most of the dictionary). Not thread-safe,
+ * callers serialize access per user.
+ */
+public class SeenWordSet {
+
+    private static final byte FORMAT_ARRAY = 0;
+    private static final byte FORMAT_BITMAP = 1;
+
+    private long[] bits;
+    private int cardinality;
+
+    // The dictionary snapshot the positions refer to: its generation, and its
+    // word ids by position (only read below the positions set here)
+    private int generation;
+    private long[] ids;
+
+    SeenWordSet(int generation, long[] ids, int size) {
+        this.generation = generation;
+        this.ids = ids;
+        this.bits = new long[(size + 63) >>> 6];
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public void clear() {
+        Arrays.fill(bits, 0L);
+        cardinality = 0;
+    }
+
+    /**
+     * @return the ids of the words in the set, ascending
+     */
+    public long[] wordIds() {
+        long[] wordIds = new long[cardinality];
+        int n = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                wordIds[n++] = ids[(w << 6) + Long.numberOfTrailingZeros(word)];
+                word &= word - 1;
+            }
+        }
+        Arrays.sort(wordIds);
+        return wordIds;
+    }
+
+    int generation() {
+        return generation;
+    }
+
+    boolean contains(int index) {
+        int word = index >>> 6;
+        return word < bits.length && (bits[word] & (1L << index)) != 0;
+    }
+
+    void add(int index) {
+        int word = index >>> 6;
+        if ((bits[word] & (1L << index)) == 0) {
+            bits[word] |= 1L << index;
+            cardinality++;
+        }
+    }
+
+    /**
+     * Point the set at a newer snapshot of the same generation (words appended)
+     */
+    void grow(long[] ids, int size) {
+        this.ids = ids;
+        int words = (size + 63) >>> 6;
+        if (words > bits.length) {
+            bits = Arrays.copyOf(bits, words);
+        }
+    }
+
+    /**
+     * Empty the set and point it at a snapshot of another generation
+     */
+    void reset(int generation, long[] ids, int size) {
+        this.generation = generation;
+        this.ids = ids;
+        this.bits = new long[(size + 63) >>> 6];
+        this.cardinality = 0;
+    }
+
+    /**
+     * Select: the position of the rank-th (from 0) word below size that is not
+     * in the set, skipping 64 positions per popcount
+     *
+     * @return the position, or -1 if there are not that many unseen words
+     */
+    int selectUnseen(int rank, int size) {
+        int words = (size + 63) >>> 6;
+        for (int w = 0; w < words; w++) {
+            long free = ~bits[w];
+            int end = size - (w << 6);
+            if (end < 64) {
+                free &= (1L << end) - 1;
+            }
+            int count = Long.bitCount(free);
+            if (rank < count) {
+                for (; rank > 0; rank--) {
+                    free &= free - 1;
+                }
+                return (w << 6) + Long.numberOfTrailingZeros(free);
+            }
+            rank -= count;
+        }
+        return -1;
+    }
+
+    /**
+     * Serialize the word ids to the smaller of the array and bitmap container
+     * formats
+     *
+     * @throws ArithmeticException if an id does not fit an int
+     */
+    public byte[] toBytes() {
+        long[] wordIds = wordIds();
+
+        ByteArrayOutputStream array = new ByteArrayOutputStream(1 + wordIds.length * 2);
+        array.write(FORMAT_ARRAY);
+        writeVarInt(array, wordIds.length);
+        int previous = 0;
+        for (long wordId : wordIds) {
+            int id = Math.toIntExact(wordId);
+            writeVarInt(array, id - previous);
+            previous = id;
+        }
+        if (wordIds.length == 0) {
+            return array.toByteArray();
+        }
+
+        int base = Math.toIntExact(wordIds[0]);
+        int used = (previous - base + 64) >>> 6;
+        if (array.size() <= 1 + 4 + 4 + used * 8) {
+            return array.toByteArray();
+        }
+
+        long[] words = new long[used];
+        for (long wordId : wordIds) {
+            int offset = (int) wordId - base;
+            words[offset >>> 6] |= 1L << offset;
+        }
+        ByteBuffer bitmap = ByteBuffer.allocate(1 + 4 + 4 + used * 8);
+        bitmap.put(FORMAT_BITMAP);
+        bitmap.putInt(base);
+        bitmap.putInt(used);
+        for (long word : words) {
+            bitmap.putLong(word);
+        }
+        return bitmap.array();
+    }
+
+    /**
+     * @return the word ids a set was serialized with, ascending
+     */
+    public static long[] idsFromBytes(byte[] data) {
+        if (data == null || data.length == 0) {
+            return new long[0];
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        byte format = buffer.get();
+        if (format == FORMAT_BITMAP) {
+            int base = buffer.getInt();
+            int used = buffer.getInt();
+            long[] words = new long[used];
+            int count = 0;
+            for (int w = 0; w < used; w++) {
+                words[w] = buffer.getLong();
+                count += Long.bitCount(words[w]);
+            }
+            long[] wordIds = new long[count];
+            int n = 0;
+            for (int w = 0; w < used; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    wordIds[n++] = (long) base + (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return wordIds;
+        } else if (format == FORMAT_ARRAY) {
+            long[] wordIds = new long[readVarInt(buffer)];
+            int id = 0;
+            for (int i = 0; i < wordIds.length; i++) {
+                id += readVarInt(buffer);
+                wordIds[i] = id;
+            }
+            return wordIds;
+        }
+        throw new IllegalArgumentException("Unknown seen-word format: " + format);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
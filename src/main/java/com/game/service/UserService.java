@@ -4,16 +4,21 @@ import com.game.dto.*;
 import com.game.model.User;
 import com.game.repository.UserRepository;
 import com.game.security.JwtUtil;
+import com.game.security.LoginThrottle;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final LoginThrottle loginThrottle;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     public String register(RegisterRequest request) {
         // Username validation
@@ -40,15 +45,34 @@ public class UserService {
         return "User registered successfully";
     }
 
-    public AuthResponse login(LoginRequest request) {
+    /**
+     * Log in without holding the caller's thread while the password is checked:
+     * the user is looked up here, and only the hash comparison of an admitted
+     * attempt runs on the password hashing pool
+     * 
+     * @param request the credentials
+     * @return the token, or a future failed with IllegalArgumentException for
+     *         bad credentials
+     * @throws IllegalArgumentException if the user does not exist
+     * @throws TooManyRequestsException if the username is throttled or the
+     *                                  hashing queue is full
+     */
+    public CompletableFuture<AuthResponse> loginAsync(LoginRequest request) {
+        long retryAfter = loginThrottle.tryAdmit(request.getUsername());
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException("Too many login attempts, please try again later", retryAfter);
+        }
+
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("Invalid username or password"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("Invalid username or password");
-        }
-
-        String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
-        return new AuthResponse(token, user.getRole().name());
+        return passwordHashingExecutor.submit(() -> passwordEncoder.matches(request.getPassword(), user.getPassword()))
+                .thenApply(matches -> {
+                    if (!matches) {
+                        throw new IllegalArgumentException("Invalid username or password");
+                    }
+                    String token = jwtUtil.generateToken(user.getId(), user.getUsername(), user.getRole().name());
+                    return new AuthResponse(token, user.getRole().name());
+                });
     }
 }
@@ -0,0 +1,274 @@
+package com.game.service;
+
+import com.game.model.Word;
+import com.game.repository.WordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-memory index of the words table.
+ *
+ * Words are loaded once (ordered by id) into a packed int array, see
+ * {@link FeedbackEngine#encode(CharSequence)}, so random picks are O(1) and the
+ * game hot path never has to query the words table. New words are appended
+ * through {@link #add(Word)}. An index only means something within one
+ * generation of snapshots: {@link #reload()} renumbers the words, so anything
+ * kept across calls must hold word ids, or like {@link SeenWordSet} be mapped
+ * onto the current generation before use.
+ */
+@Component
+@RequiredArgsConstructor
+public class WordDictionary {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Random probes before falling back to selecting an unseen word by rank
+    private static final int RANDOM_PROBES = 4;
+
+    private final WordRepository wordRepository;
+
+    // Published after every write. The arrays and lookup maps are shared with
+    // older snapshots, so readers only trust slots below their snapshot's size
+    private volatile Snapshot snapshot;
+
+    /**
+     * Immutable view of the backing arrays. Arrays are only ever written past
+     * {@code size}, so sharing them (and the lookup maps) between snapshots is
+     * safe.
+     */
+    private static final class Snapshot {
+        private final int generation;
+        private final long[] ids;
+        private final int[] words;
+        private final int size;
+        private final Map<Long, Integer> indexById;
+        private final Map<Integer, Integer> indexByWord;
+
+        // Snapshots of one generation share their indexes
+        private Snapshot(int generation, long[] ids, int[] words, int size, Map<Long, Integer> indexById,
+                Map<Integer, Integer> indexByWord) {
+            this.generation = generation;
+            this.ids = ids;
+            this.words = words;
+            this.size = size;
+            this.indexById = indexById;
+            this.indexByWord = indexByWord;
+        }
+    }
+
+    /**
+     * Reload all words from the database, replacing the current index
+     */
+    public synchronized void reload() {
+        List<Word> all = wordRepository.findAll(Sort.by("id"));
+
+        Map<Long, Integer> indexById = new ConcurrentHashMap<>();
+        Map<Integer, Integer> indexByWord = new ConcurrentHashMap<>();
+        long[] ids = new long[Math.max(INITIAL_CAPACITY, all.size() * 2)];
+        int[] words = new int[ids.length];
+        int size = 0;
+
+        for (Word word : all) {
+            // Skip malformed legacy rows, they can never be a valid target
+            if (!FeedbackEngine.isEncodable(word.getWord())) {
+                continue;
+            }
+            int packed = FeedbackEngine.encode(word.getWord());
+            ids[size] = word.getId();
+            words[size] = packed;
+            indexById.put(word.getId(), size);
+            indexByWord.put(packed, size);
+            size++;
+        }
+
+        snapshot = new Snapshot(snapshot == null ? 0 : snapshot.generation + 1, ids, words, size, indexById,
+                indexByWord);
+        System.out.println("Word dictionary loaded with " + size + " words");
+    }
+
+    /**
+     * Append a newly persisted word to the index
+     *
+     * @param word a saved word (must have an id)
+     */
+    public synchronized void add(Word word) {
+        Snapshot current = current();
+        if (word.getId() == null || current.indexById.containsKey(word.getId())
+                || !FeedbackEngine.isEncodable(word.getWord())) {
+            return;
+        }
+
+        long[] ids = current.ids;
+        int[] words = current.words;
+        if (current.size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            words = Arrays.copyOf(words, words.length * 2);
+        }
+
+        int packed = FeedbackEngine.encode(word.getWord());
+        ids[current.size] = word.getId();
+        words[current.size] = packed;
+        current.indexById.put(word.getId(), current.size);
+        current.indexByWord.put(packed, current.size);
+        snapshot = new Snapshot(current.generation, ids, words, current.size + 1, current.indexById,
+                current.indexByWord);
+    }
+
+    public int size() {
+        return current().size;
+    }
+
+    /**
+     * Pick a random word index
+     *
+     * @return the index, or -1 if the dictionary is empty
+     */
+    public int randomIndex() {
+        int size = current().size;
+        return size == 0 ? -1 : ThreadLocalRandom.current().nextInt(size);
+    }
+
+    /**
+     * A seen set holding these word ids, for the current snapshot; ids the
+     * dictionary does not have are left out
+     */
+    public SeenWordSet seenSet(long[] wordIds) {
+        Snapshot current = current();
+        SeenWordSet seen = new SeenWordSet(current.generation, current.ids, current.size);
+        addAll(current, seen, wordIds);
+        return seen;
+    }
+
+    /**
+     * Draw a random word that is not in the set and add it, from a single
+     * snapshot
+     *
+     * A few random probes find one in O(1) while most words are unseen. After
+     * that the unseen count is the dictionary size minus the set's cardinality,
+     * and the word of a random rank is selected from the set's bitmap, one
+     * popcount per 64 words.
+     *
+     * @param seen the user's seen set; mapped onto the current snapshot first if
+     *             the dictionary was reloaded since it was built
+     * @return the word's id, or -1 if the set holds every word or the dictionary
+     *         is empty
+     */
+    public long drawUnseen(SeenWordSet seen) {
+        Snapshot current = current();
+        if (seen.generation() == current.generation) {
+            seen.grow(current.ids, current.size);
+        } else {
+            long[] wordIds = seen.wordIds();
+            seen.reset(current.generation, current.ids, current.size);
+            addAll(current, seen, wordIds);
+        }
+
+        int unseen = current.size - seen.cardinality();
+        if (unseen <= 0) {
+            return -1;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = -1;
+        for (int i = 0; i < RANDOM_PROBES && index < 0; i++) {
+            int probe = random.nextInt(current.size);
+            if (!seen.contains(probe)) {
+                index = probe;
+            }
+        }
+        if (index < 0) {
+            index = seen.selectUnseen(random.nextInt(unseen), current.size);
+        }
+        seen.add(index);
+        return current.ids[index];
+    }
+
+    private static void addAll(Snapshot snapshot, SeenWordSet seen, long[] wordIds) {
+        for (long wordId : wordIds) {
+            int index = indexIn(snapshot, snapshot.indexById.get(wordId));
+            if (index >= 0) {
+                seen.add(index);
+            }
+        }
+    }
+
+    public long idAt(int index) {
+        return checked(index).ids[index];
+    }
+
+    public int packedAt(int index) {
+        return checked(index).words[index];
+    }
+
+    public String wordAt(int index) {
+        return FeedbackEngine.toWord(packedAt(index));
+    }
+
+    /**
+     * @return the index of the word with this id, or -1 if unknown
+     */
+    public int indexOfId(Long id) {
+        Snapshot current = current();
+        return indexIn(current, id == null ? null : current.indexById.get(id));
+    }
+
+    /**
+     * @return the index of this packed word, or -1 if it is not a known target
+     */
+    public int indexOfPacked(int packed) {
+        Snapshot current = current();
+        return indexIn(current, current.indexByWord.get(packed));
+    }
+
+    /**
+     * Resolve a word id to its text without touching the database
+     *
+     * @return the word, or null if the id is not indexed
+     */
+    public String wordOf(Long id) {
+        // Index and word from the same snapshot
+        Snapshot current = current();
+        int index = indexIn(current, id == null ? null : current.indexById.get(id));
+        return index < 0 ? null : FeedbackEngine.toWord(current.words[index]);
+    }
+
+    public boolean contains(String word) {
+        return FeedbackEngine.isEncodable(word) && indexOfPacked(FeedbackEngine.encode(word)) >= 0;
+    }
+
+    /**
+     * The lookup maps are shared, and {@link #add(Word)} fills them in just
+     * before publishing the snapshot that covers the new index; an index this
+     * snapshot does not include yet counts as unknown
+     */
+    private static int indexIn(Snapshot snapshot, Integer index) {
+        return index == null || index >= snapshot.size ? -1 : index;
+    }
+
+    private Snapshot checked(int index) {
+        Snapshot current = current();
+        if (index < 0 || index >= current.size) {
+            throw new IndexOutOfBoundsException("Word index " + index + " out of range");
+        }
+        return current;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,145 @@
+package com.game.service;
+
+import com.game.dto.WordImportResponse;
+import com.game.model.Word;
+import com.game.repository.WordRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bulk import of target words.
+ *
+ * The upload is read line by line (plain text or CSV, any mix of commas and
+ * whitespace between words), validated and deduplicated in memory against
+ * {@link WordDictionary}, then persisted in chunks whose inserts Hibernate
+ * sends as JDBC batches (ids come from the pooled generator). The in-memory
+ * dictionaries are reloaded once at the end rather than per word.
+ */
+@Service
+public class WordImportService {
+
+    // Words per transaction
+    private static final int BATCH_SIZE = 1000;
+
+    private final WordRepository wordRepository;
+    private final WordDictionary wordDictionary;
+    private final GuessDictionary guessDictionary;
+    private final TransactionTemplate transactionTemplate;
+    // One import at a time; a lock rather than synchronized, imports block on the database
+    private final ReentrantLock importLock = new ReentrantLock();
+
+    public WordImportService(WordRepository wordRepository, WordDictionary wordDictionary,
+            GuessDictionary guessDictionary, PlatformTransactionManager transactionManager) {
+        this.wordRepository = wordRepository;
+        this.wordDictionary = wordDictionary;
+        this.guessDictionary = guessDictionary;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Import every word in the input
+     * 
+     * @param input text with one or more words per line, not closed
+     * @return accepted, duplicate and rejected counts
+     */
+    public WordImportResponse importWords(Reader input) throws IOException {
+        importLock.lock();
+        try {
+            return doImportWords(input);
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    private WordImportResponse doImportWords(Reader input) throws IOException {
+        int accepted = 0;
+        int duplicates = 0;
+        int rejected = 0;
+
+        Set<String> seen = new HashSet<>();
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            BufferedReader reader = new BufferedReader(input);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                for (String token : line.split("[,;\\s]+")) {
+                    if (token.isEmpty()) {
+                        continue;
+                    }
+                    String word = token.toUpperCase();
+                    if (!FeedbackEngine.isEncodable(word)) {
+                        rejected++;
+                    } else if (wordDictionary.contains(word) || !seen.add(word)) {
+                        duplicates++;
+                    } else {
+                        batch.add(word);
+                        if (batch.size() == BATCH_SIZE) {
+                            accepted += insert(batch);
+                            batch.clear();
+                        }
+                    }
+                }
+            }
+            accepted += insert(batch);
+        } finally {
+            // Batches commit on their own; pick up the ones that did even if a
+            // later one failed
+            if (accepted > 0) {
+                wordDictionary.reload();
+                guessDictionary.reload();
+            }
+        }
+        duplicates += seen.size() - accepted;
+
+        System.out.println("Imported " + accepted + " words (" + duplicates + " duplicates, " + rejected
+                + " rejected)");
+        return new WordImportResponse(accepted, duplicates, rejected);
+    }
+
+    /**
+     * @return the number of rows inserted
+     */
+    private int insert(List<String> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            // One transaction per batch, so a failed batch leaves nothing behind
+            transactionTemplate.executeWithoutResult(status -> {
+                wordRepository.saveAll(batch.stream().map(WordImportService::newWord).toList());
+                wordRepository.flush();
+            });
+            return batch.size();
+        } catch (DataIntegrityViolationException e) {
+            // A word the dictionary did not know about (added concurrently, or a
+            // legacy row it skipped); fall back to row by row for this batch
+            int inserted = 0;
+            for (String word : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> wordRepository.saveAndFlush(newWord(word)));
+                    inserted++;
+                } catch (DataIntegrityViolationException duplicate) {
+                    // counted as a duplicate by the caller
+                }
+            }
+            return inserted;
+        }
+    }
+
+    private static Word newWord(String text) {
+        Word word = new Word();
+        word.setWord(text);
+        return word;
+    }
+}
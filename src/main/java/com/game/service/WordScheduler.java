@@ -0,0 +1,110 @@
+package com.game.service;
+
+import com.game.model.UserWordHistory;
+import com.game.repository.GameRepository;
+import com.game.repository.UserWordHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands each user a target word they have not played yet.
+ *
+ * Seen words are tracked per user in a {@link SeenWordSet}: a bitmap sized
+ * from the dictionary, which {@link WordDictionary#drawUnseen(SeenWordSet)}
+ * draws from, saved as word ids. After every draw a snapshot of the set is
+ * queued on the {@link GameSessionCache} write-behind thread, so saving it
+ * costs the game start no round trips. Once a user has seen the whole
+ * dictionary a new cycle starts.
+ *
+ * Draws for one user are serialized by a striped lock, and a set is loaded
+ * outside the cache map's monitor, so a database load only holds up the users
+ * sharing its stripe. A lock rather than a monitor also keeps a virtual thread
+ * waiting on those database calls from pinning its carrier thread.
+ */
+@Service
+@RequiredArgsConstructor
+public class WordScheduler {
+
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    // Power of two so the stripe index is a mask
+    private static final int LOCK_STRIPES = 64;
+
+    private final WordDictionary wordDictionary;
+    private final UserWordHistoryRepository historyRepository;
+    private final GameRepository gameRepository;
+    private final GameSessionCache gameSessionCache;
+
+    // Sets are queued for saving on every change, so dropping the eldest entry
+    // is safe; a reload racing a still-queued save can at worst repeat a word
+    private final Map<Long, SeenWordSet> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, SeenWordSet> eldest) {
+                    return size() > MAX_CACHED_USERS;
+                }
+            });
+    private final Lock[] locks = newLocks();
+
+    /**
+     * Draw the next target word for a user and record it as seen
+     *
+     * @param userId the player's id
+     * @return the id of the word
+     * @throws IllegalStateException if the dictionary is empty
+     */
+    public long nextWordId(Long userId) {
+        Lock lock = locks[Long.hashCode(userId * 0x9E3779B97F4A7C15L) & (LOCK_STRIPES - 1)];
+        lock.lock();
+        try {
+            // Loaded outside the map's monitor, so a load only holds up its own stripe
+            SeenWordSet seen = cache.get(userId);
+            if (seen == null) {
+                seen = load(userId);
+                cache.put(userId, seen);
+            }
+            long wordId = wordDictionary.drawUnseen(seen);
+            if (wordId < 0 && seen.cardinality() > 0) {
+                // Every word has been seen, start a new cycle
+                seen.clear();
+                wordId = wordDictionary.drawUnseen(seen);
+            }
+            if (wordId < 0) {
+                throw new IllegalStateException("No words available in the database.");
+            }
+            // Snapshot taken under the lock; the single writer keeps saves in draw order
+            UserWordHistory history = new UserWordHistory(userId, seen.toBytes());
+            gameSessionCache.submitWrite(() -> historyRepository.save(history));
+            return wordId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Lock[] newLocks() {
+        Lock[] locks = new Lock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    /**
+     * Load a user's seen set, bootstrapping it once from their played games
+     */
+    private SeenWordSet load(Long userId) {
+        long[] wordIds = historyRepository.findById(userId)
+                .map(UserWordHistory::getSeenWordIds)
+                .map(SeenWordSet::idsFromBytes)
+                .orElseGet(() -> gameRepository.findPlayedWordIdsByUser(userId).stream()
+                        .mapToLong(Long::longValue)
+                        .toArray());
+        return wordDictionary.seenSet(wordIds);
+    }
+}
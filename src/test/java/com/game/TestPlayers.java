@@ -0,0 +1,52 @@
+package com.game;
+
+import com.game.model.User;
+import com.game.repository.UserRepository;
+import com.game.security.GamePrincipal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Player fixtures shared by the tests. Test contexts share one in-memory
+ * database, so every name is made unique.
+ */
+public final class TestPlayers {
+
+    // Seeded from the clock, so a database kept between runs never sees a name twice
+    private static final AtomicLong NEXT = new AtomicLong(System.currentTimeMillis());
+
+    private TestPlayers() {
+    }
+
+    /**
+     * @return the prefix followed by a number no other call returns
+     */
+    public static String username(String prefix) {
+        return prefix + NEXT.getAndIncrement();
+    }
+
+    /**
+     * @return a new, unsaved player who never logs in
+     */
+    public static User player(String prefix) {
+        User user = new User();
+        user.setUsername(username(prefix));
+        user.setPassword("unused");
+        user.setRole(User.Role.PLAYER);
+        return user;
+    }
+
+    /**
+     * @return a new player, saved
+     */
+    public static User create(UserRepository userRepository, String prefix) {
+        return userRepository.save(player(prefix));
+    }
+
+    /**
+     * @return the principal a request of this player is authenticated as
+     */
+    public static GamePrincipal principal(User user) {
+        return new GamePrincipal(user.getId(), user.getUsername(), "PLAYER");
+    }
+}
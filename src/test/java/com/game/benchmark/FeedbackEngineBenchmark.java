@@ -0,0 +1,77 @@
+package com.game.benchmark;
+
+import com.game.service.FeedbackEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the packed feedback engine against the previous StringBuilder based
+ * implementation. Run with the gc profiler (enabled by the benchmark profile)
+ * to confirm that {@code packedScore} allocates 0 B/op.
+ *
+ * mvn -Pbenchmark test -Dbenchmark.include=FeedbackEngineBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedbackEngineBenchmark {
+
+    private static final String[] GUESSES = { "APPLE", "LLAMA", "CRANE", "SPEED", "HELLO", "ROBOT", "EERIE", "TABLE" };
+    private static final String[] TARGETS = { "PAPER", "HELLO", "REACT", "STEEL", "LEMON", "MOTOR", "EVERY", "BLEAT" };
+
+    private int[] packedGuesses;
+    private int[] packedTargets;
+    private int index;
+
+    @Setup
+    public void setup() {
+        packedGuesses = new int[GUESSES.length];
+        packedTargets = new int[TARGETS.length];
+        for (int i = 0; i < GUESSES.length; i++) {
+            packedGuesses[i] = FeedbackEngine.encode(GUESSES[i]);
+            packedTargets[i] = FeedbackEngine.encode(TARGETS[i]);
+        }
+    }
+
+    @Benchmark
+    public int packedScore() {
+        int i = index++ & 7;
+        return FeedbackEngine.score(packedGuesses[i], packedTargets[i]);
+    }
+
+    @Benchmark
+    public String packedScoreAndDecode() {
+        int i = index++ & 7;
+        return FeedbackEngine.decode(FeedbackEngine.score(packedGuesses[i], packedTargets[i]));
+    }
+
+    @Benchmark
+    public String legacyGenerateFeedback() {
+        int i = index++ & 7;
+        return legacyFeedback(GUESSES[i], TARGETS[i]);
+    }
+
+    // Previous GameService.generateFeedback, kept verbatim as the baseline
+    private static String legacyFeedback(String guessed, String target) {
+        StringBuilder feedback = new StringBuilder();
+
+        for (int i = 0; i < 5; i++) {
+            char guessedChar = guessed.charAt(i);
+            char targetChar = target.charAt(i);
+
+            if (guessedChar == targetChar) {
+                feedback.append('G');
+            } else if (target.contains(String.valueOf(guessedChar))) {
+                feedback.append('O');
+            } else {
+                feedback.append('R');
+            }
+        }
+
+        return feedback.toString();
+    }
+}
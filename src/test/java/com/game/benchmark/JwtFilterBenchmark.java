@@ -0,0 +1,135 @@
+package com.game.benchmark;
+
+import com.game.security.JwtFilter;
+import com.game.security.JwtUtil;
+import com.game.security.TokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request: the previous filter (three parses and a
+ * new key per request) against the current one without and with the token
+ * cache. Requests cycle through {@link #TOKENS} players' tokens, all of which
+ * fit in the cache.
+ *
+ * mvn -Pbenchmark test -Dbenchmark.include=JwtFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "w9fHk82uYp7xQz!dLr4mGz#9vNt1SbXj";
+    private static final int TOKENS = 1024; // power of two so the index is a mask
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private final MockHttpServletRequest[] requests = new MockHttpServletRequest[TOKENS];
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private JwtFilter uncachedFilter;
+    private JwtFilter cachedFilter;
+    private int index;
+
+    @Setup
+    public void setup() {
+        JwtUtil issuer = new JwtUtil(SECRET, 3_600_000, new TokenCache(0));
+        uncachedFilter = new JwtFilter(issuer);
+        cachedFilter = new JwtFilter(new JwtUtil(SECRET, 3_600_000, new TokenCache(TOKENS)));
+        for (int i = 0; i < TOKENS; i++) {
+            requests[i] = new MockHttpServletRequest("GET", "/api/player/stats");
+            requests[i].addHeader("Authorization", "Bearer " + issuer.generateToken((long) i, "player" + i, "PLAYER"));
+        }
+    }
+
+    @Benchmark
+    public Authentication legacyFilter() {
+        MockHttpServletRequest request = requests[index++ & (TOKENS - 1)];
+        legacyAuthenticate(request);
+        return authenticated();
+    }
+
+    @Benchmark
+    public Authentication singleParseFilter() throws Exception {
+        uncachedFilter.doFilter(requests[index++ & (TOKENS - 1)], response, NO_OP_CHAIN);
+        return authenticated();
+    }
+
+    @Benchmark
+    public Authentication cachedFilter() throws Exception {
+        cachedFilter.doFilter(requests[index++ & (TOKENS - 1)], response, NO_OP_CHAIN);
+        return authenticated();
+    }
+
+    private static Authentication authenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    // Previous JwtFilter/JwtUtil path, kept verbatim as the baseline
+    private static void legacyAuthenticate(MockHttpServletRequest request) {
+        String token = request.getHeader("Authorization").substring(7);
+        if (legacyValidateToken(token)) {
+            Claims claims = legacyExtractClaims(token);
+            String username = claims.getSubject();
+            String role = (String) claims.get("role");
+
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    username,
+                    null, Collections.singleton(() -> "ROLE_" + role));
+
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+    }
+
+    private static Key legacySigningKey() {
+        byte[] keyBytes = SECRET.getBytes(StandardCharsets.UTF_8);
+        return new SecretKeySpec(keyBytes, SignatureAlgorithm.HS256.getJcaName());
+    }
+
+    private static Claims legacyExtractClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(legacySigningKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static boolean legacyIsTokenExpired(String token) {
+        try {
+            return legacyExtractClaims(token).getExpiration().before(new Date());
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    private static boolean legacyValidateToken(String token) {
+        try {
+            legacyExtractClaims(token);
+            return !legacyIsTokenExpired(token);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.game.benchmark;
+
+import com.game.GuessGameApplication;
+import com.game.TestPlayers;
+import com.game.model.Game;
+import com.game.model.Guess;
+import com.game.model.PlayerStats;
+import com.game.model.User;
+import com.game.model.Word;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import com.game.repository.PlayerStatsRepository;
+import com.game.repository.UserRepository;
+import com.game.repository.WordRepository;
+import com.game.service.PlayerStatsService;
+import com.game.service.WordImportService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row rates of the bulk write paths with JDBC batching off (batch size 1, all
+ * that IDENTITY ids allowed) and on. Each fork starts the application against
+ * in-memory H2, or against DB_URL/DB_USERNAME/DB_PASSWORD when DB_URL is set.
+ * Scores are rows per second.
+ *
+ * mvn -Pbenchmark test -Dbenchmark.include=PersistenceWriteBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceWriteBenchmark {
+
+    private static final int GAMES = 250; // each written with three guesses
+    private static final int GUESSES_PER_GAME = 3;
+    private static final int WORDS = 1000;
+    private static final int PLAYERS = 200;
+    private static final int GAMES_PER_PLAYER = 10;
+
+    @Param({ "1", "50" })
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private GameRepository gameRepository;
+    private GuessRepository guessRepository;
+    private UserRepository userRepository;
+    private PlayerStatsRepository playerStatsRepository;
+    private PlayerStatsService playerStatsService;
+    private WordImportService wordImportService;
+
+    private User player;
+    private Word word;
+    private final List<Long> playerIds = new ArrayList<>();
+    private int wordCounter;
+
+    @Setup(Level.Trial)
+    public void start() {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--spring.jpa.show-sql=false",
+                "--server.port=0"));
+        if (System.getenv("DB_URL") == null) {
+            args.add("--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            args.add("--spring.datasource.username=sa");
+            args.add("--spring.datasource.password=");
+            args.add("--spring.sql.init.mode=never"); // data.sql is written for MySQL
+        }
+        context = new SpringApplicationBuilder(GuessGameApplication.class).run(args.toArray(String[]::new));
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        gameRepository = context.getBean(GameRepository.class);
+        guessRepository = context.getBean(GuessRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        playerStatsRepository = context.getBean(PlayerStatsRepository.class);
+        playerStatsService = context.getBean(PlayerStatsService.class);
+        wordImportService = context.getBean(WordImportService.class);
+        word = context.getBean(WordRepository.class).findAll().get(0);
+
+        player = TestPlayers.create(userRepository, "bench");
+        for (int i = 0; i < PLAYERS; i++) {
+            User user = TestPlayers.create(userRepository, "bench");
+            transactionTemplate.executeWithoutResult(status -> writeGames(user, GAMES_PER_PLAYER));
+            playerIds.add(user.getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * Finished games and their guesses, one transaction per invocation
+     */
+    @Benchmark
+    @OperationsPerInvocation(GAMES * (1 + GUESSES_PER_GAME))
+    public void simulateGames() {
+        transactionTemplate.executeWithoutResult(status -> writeGames(player, GAMES));
+    }
+
+    /**
+     * Bulk word import of fresh words, including the dictionary reload
+     */
+    @Benchmark
+    @OperationsPerInvocation(WORDS)
+    public Object importWords() throws Exception {
+        StringBuilder upload = new StringBuilder(WORDS * 6);
+        for (int i = 0; i < WORDS; i++) {
+            upload.append(nextWord()).append('\n');
+        }
+        return wordImportService.importWords(new StringReader(upload.toString()));
+    }
+
+    /**
+     * Rebuild and store the stats of every seeded player
+     */
+    @Benchmark
+    @OperationsPerInvocation(PLAYERS)
+    public void rebuildStats() {
+        transactionTemplate.executeWithoutResult(status -> {
+            playerStatsRepository.deleteAllInBatch();
+            List<PlayerStats> rebuilt = playerIds.stream().map(playerStatsService::rebuild).toList();
+            playerStatsRepository.saveAll(rebuilt);
+        });
+    }
+
+    private void writeGames(User user, int count) {
+        for (int i = 0; i < count; i++) {
+            boolean won = (i & 1) == 0;
+            Game game = new Game();
+            game.setUser(user);
+            game.setWord(word);
+            game.setDatePlayed(LocalDate.now());
+            game.setRemainingGuesses(5 - GUESSES_PER_GAME);
+            game.setIsWon(won);
+            game.setGuessCount(GUESSES_PER_GAME);
+            game.setStatus(won ? Game.Status.WON : Game.Status.LOST);
+            gameRepository.save(game);
+
+            for (int n = 1; n <= GUESSES_PER_GAME; n++) {
+                Guess guess = new Guess();
+                guess.setGame(game);
+                guess.setGuessedWord("CRANE");
+                guess.setGuessNumber(n);
+                guess.setFeedback("RRRRR");
+                guessRepository.save(guess);
+            }
+        }
+    }
+
+    // Counter spelled in base 26, distinct for the first 26^5 words
+    private String nextWord() {
+        char[] letters = new char[5];
+        int n = wordCounter++;
+        for (int i = 4; i >= 0; i--) {
+            letters[i] = (char) ('A' + n % 26);
+            n /= 26;
+        }
+        return new String(letters);
+    }
+}
@@ -0,0 +1,159 @@
+package com.game.benchmark;
+
+import com.game.GuessGameApplication;
+import com.game.TestPlayers;
+import com.game.model.Game;
+import com.game.model.Guess;
+import com.game.model.User;
+import com.game.model.Word;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import com.game.repository.UserRepository;
+import com.game.repository.WordRepository;
+import com.game.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency percentiles of a JDBC-bound endpoint (a player's
+ * game history) under 256 concurrent clients, with the default Tomcat pool
+ * and with virtual threads plus connection pool admission. The virtual thread
+ * run needs Java 21+, so build and run it with the java21 profile on a JDK 21.
+ *
+ * Runs against in-memory H2 unless DB_URL/DB_USERNAME/DB_PASSWORD are set; H2
+ * has no network round trips, so use a real database to see the waits that
+ * virtual threads are meant to absorb. Opt-in, it takes a few minutes:
+ *
+ * mvn -Pbenchmark,java21 test -Dbenchmark.include=RequestThreadingBenchmark
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class RequestThreadingBenchmark {
+
+    private static final int PLAYERS = 512;
+    private static final int GAMES_PER_PLAYER = 3;
+    private static final int GUESSES_PER_GAME = 3;
+
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        @Param({ "false", "true" })
+        public boolean virtualThreads;
+
+        private ConfigurableApplicationContext context;
+        private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        private final List<HttpRequest> requests = new ArrayList<>();
+
+        @Setup(Level.Trial)
+        public void start() {
+            if (virtualThreads && Runtime.version().feature() < 21) {
+                throw new IllegalStateException("Virtual threads need Java 21+, run with -p virtualThreads=false");
+            }
+            List<String> args = new ArrayList<>(List.of(
+                    "--spring.threads.virtual.enabled=" + virtualThreads,
+                    "--spring.jpa.show-sql=false",
+                    "--server.port=0"));
+            if (System.getenv("DB_URL") == null) {
+                args.add("--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+                args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+                args.add("--spring.datasource.username=sa");
+                args.add("--spring.datasource.password=");
+                args.add("--spring.sql.init.mode=never"); // data.sql is written for MySQL
+            }
+            context = new SpringApplicationBuilder(GuessGameApplication.class).run(args.toArray(String[]::new));
+
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(
+                    context.getBean(PlatformTransactionManager.class));
+            for (int i = 0; i < PLAYERS; i++) {
+                User player = transactionTemplate.execute(status -> seedPlayer());
+                requests.add(HttpRequest.newBuilder(URI.create(base + "/api/player/history"))
+                        .header("Authorization", "Bearer "
+                                + jwtUtil.generateToken(player.getId(), player.getUsername(), "PLAYER"))
+                        .GET()
+                        .build());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            context.close();
+        }
+
+        private User seedPlayer() {
+            Word word = context.getBean(WordRepository.class).findAll().get(0);
+            User user = TestPlayers.create(context.getBean(UserRepository.class), "load");
+
+            for (int g = 0; g < GAMES_PER_PLAYER; g++) {
+                Game game = new Game();
+                game.setUser(user);
+                game.setWord(word);
+                game.setDatePlayed(LocalDate.now().minusDays(g));
+                game.setRemainingGuesses(5 - GUESSES_PER_GAME);
+                game.setIsWon(false);
+                game.setGuessCount(GUESSES_PER_GAME);
+                game.setStatus(Game.Status.LOST);
+                context.getBean(GameRepository.class).save(game);
+
+                for (int n = 1; n <= GUESSES_PER_GAME; n++) {
+                    Guess guess = new Guess();
+                    guess.setGame(game);
+                    guess.setGuessedWord("CRANE");
+                    guess.setGuessNumber(n);
+                    guess.setFeedback("RRRRR");
+                    context.getBean(GuessRepository.class).save(guess);
+                }
+            }
+            return user;
+        }
+    }
+
+    /**
+     * Outcomes of the requests, reported as their own throughput metrics
+     * (history:completed, history:refused) in throughput mode. The primary
+     * score counts both, so compare completed between the two runs.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Client {
+        private int index = (int) Thread.currentThread().getId();
+
+        public long completed;
+        public long refused; // 503s from admission control
+    }
+
+    /**
+     * One history request. Requests refused by admission control are counted
+     * as refused, not completed.
+     */
+    @Benchmark
+    public int history(Server server, Client client) throws Exception {
+        HttpRequest request = server.requests.get(Math.floorMod(client.index++, PLAYERS));
+        int status = server.client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status == 200) {
+            client.completed++;
+        } else if (status == 503) {
+            client.refused++;
+        } else {
+            throw new IllegalStateException("Unexpected status " + status);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,70 @@
+package com.game.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DataSourceAdmissionFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void testStreamsHoldTheirPermitUntilComplete() throws Exception {
+        DataSourceAdmissionFilter filter = new DataSourceAdmissionFilter(null, registry, 1, 10);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/export/games");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(DataSourceAdmissionFilter.HOLD_PERMIT, Boolean.TRUE);
+            req.startAsync();
+        });
+        assertEquals(1.0, inFlight());
+
+        // The only permit is taken, so another request is refused
+        MockHttpServletResponse refused = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/player/stats"), refused, (req, res) -> {
+        });
+        assertEquals(503, refused.getStatus());
+
+        request.getAsyncContext().complete();
+        assertEquals(0.0, inFlight());
+    }
+
+    @Test
+    public void testQueuedLoginDoesNotBlockGameRequests() throws Exception {
+        DataSourceAdmissionFilter filter = new DataSourceAdmissionFilter(null, registry, 1, 10);
+        MockHttpServletRequest login = new MockHttpServletRequest("POST", "/api/auth/login");
+        login.setAsyncSupported(true);
+
+        // Still waiting for a hashing thread when the request thread returns
+        filter.doFilter(login, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        assertEquals(0.0, inFlight());
+
+        MockHttpServletResponse guess = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/games/guess"), guess, (req, res) -> {
+        });
+        assertEquals(200, guess.getStatus());
+
+        login.getAsyncContext().complete();
+        assertEquals(0.0, inFlight());
+    }
+
+    @Test
+    public void testSynchronousRequestsReleaseOnReturn() throws Exception {
+        DataSourceAdmissionFilter filter = new DataSourceAdmissionFilter(null, registry, 1, 10);
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/player/stats"), response, (req, res) -> {
+            });
+            assertEquals(200, response.getStatus());
+        }
+        assertEquals(0.0, inFlight());
+    }
+
+    private double inFlight() {
+        return registry.get("db.admission.in_flight").gauge().value();
+    }
+}
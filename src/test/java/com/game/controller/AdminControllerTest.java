@@ -1,5 +1,7 @@
 package com.game.controller;
 
+import com.game.dto.AdminReportsResponse;
+import com.game.dto.PageResponse;
 import com.game.dto.WinReportsResponse;
 import com.game.service.ReportService;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
@@ -84,4 +87,32 @@ public class AdminControllerTest {
                 .andExpect(jsonPath("$.twoGuessWinners[0].username").value("player1"))
                 .andExpect(jsonPath("$.twoGuessWinners[1].username").value("player3"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "admin", roles = { "ADMIN" })
+    public void testGameReportPagesHaveTheirOwnPath() throws Exception {
+        AdminReportsResponse.GameReport game = new AdminReportsResponse.GameReport(7L, "player1", "CRANE",
+                LocalDate.of(2024, 1, 2), true, true, 3);
+        when(gameService.getGameReportsPage(5L, 1)).thenReturn(new PageResponse<>(List.of(game), 7L));
+        when(gameService.getComprehensiveAdminReports(5L, 1)).thenReturn(new AdminReportsResponse(
+                List.of(), List.of(game), List.of(), new AdminReportsResponse.SystemStatistics(), 7L));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/comprehensive-reports/games?afterId=5&limit=1")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].gameId").value(7))
+                .andExpect(jsonPath("$.nextAfterId").value(7));
+
+        // The full report pages its game reports the same way
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/comprehensive-reports?afterId=5&limit=1")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.gameReports[0].gameId").value(7))
+                .andExpect(jsonPath("$.nextGameAfterId").value(7))
+                .andExpect(jsonPath("$.systemStatistics").exists());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/comprehensive-reports?limit=0")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+}
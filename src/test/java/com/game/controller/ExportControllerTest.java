@@ -0,0 +1,121 @@
+package com.game.controller;
+
+import com.game.TestPlayers;
+import com.game.model.Game;
+import com.game.model.Guess;
+import com.game.model.User;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import com.game.repository.UserRepository;
+import com.game.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.streams.timeout-ms=600000")
+@AutoConfigureMockMvc
+public class ExportControllerTest {
+
+    // A day no other test plays on
+    private static final LocalDate DAY = LocalDate.of(1950, 6, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GuessRepository guessRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Test
+    @WithMockUser(username = "admin", roles = { "ADMIN" })
+    public void testExportsStreamRepositoryRows() throws Exception {
+        User user = TestPlayers.create(userRepository, "export");
+        Game won = createGame(user, true, "CRANE", "GGGGG");
+        createGame(user, null, "BLACK", "RRORR");
+
+        String games = export("/api/admin/export/games?from=" + DAY + "&to=" + DAY);
+        String[] lines = games.split("\n");
+        assertEquals(3, lines.length); // header and two games
+        assertTrue(lines[1].startsWith(won.getId() + "," + user.getUsername() + "," + DAY + ",WON"));
+
+        String guesses = export("/api/admin/export/guesses?format=ndjson&from=" + DAY + "&to=" + DAY);
+        lines = guesses.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"guessedWord\":\"CRANE\""));
+        assertTrue(lines[1].contains("\"feedback\":\"RRORR\""));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = { "ADMIN" })
+    public void testPlaceholderWordOfUnbackfilledGameIsHidden() throws Exception {
+        LocalDate day = DAY.plusDays(1);
+        Game legacy = new Game();
+        legacy.setUser(TestPlayers.create(userRepository, "export"));
+        legacy.setWord(wordRepository.findAll().get(0));
+        legacy.setDatePlayed(day);
+        legacy.setGuessCount(null);
+        legacy.setStatus(null);
+        gameRepository.save(legacy);
+
+        String[] lines = export("/api/admin/export/games?from=" + day + "&to=" + day).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].endsWith(",5,"), lines[1]); // remaining guesses, then no target word
+    }
+
+    /**
+     * Run an export through the MVC layer, checking it runs with the stream
+     * timeout rather than the default async one
+     */
+    private String export(String uri) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(600_000L, result.getRequest().getAsyncContext().getTimeout());
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private Game createGame(User user, Boolean won, String word, String feedback) {
+        Game game = new Game();
+        game.setUser(user);
+        game.setWord(wordRepository.findAll().get(0));
+        game.setDatePlayed(DAY);
+        game.setRemainingGuesses(4);
+        game.setGuessCount(1);
+        game.setIsWon(won);
+        game.setStatus(Game.Status.of(1, won));
+        gameRepository.save(game);
+
+        Guess guess = new Guess();
+        guess.setGame(game);
+        guess.setGuessNumber(1);
+        guess.setGuessedWord(word);
+        guess.setFeedback(feedback);
+        guess.setCreatedAt(LocalDateTime.now());
+        guessRepository.save(guess);
+        return game;
+    }
+}
@@ -0,0 +1,96 @@
+package com.game.controller;
+
+import com.game.TestPlayers;
+import com.game.model.Game;
+import com.game.model.User;
+import com.game.model.Word;
+import com.game.repository.GameRepository;
+import com.game.repository.UserRepository;
+import com.game.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class UserReportControllerTest {
+
+    // Days no other test plays on
+    private static final LocalDate DAY = LocalDate.of(1951, 3, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Test
+    @WithMockUser(username = "admin", roles = { "ADMIN" })
+    public void testReportIsGroupedByDayAndHidesPlaceholderWords() throws Exception {
+        User user = TestPlayers.create(userRepository, "report");
+        Word word = wordRepository.findAll().get(0);
+        Game won = createGame(user, word, DAY, true, 2, Game.Status.WON);
+        Game fresh = createGame(user, word, DAY, null, 0, Game.Status.NEW);
+        Game legacy = createGame(user, word, DAY.minusDays(1), null, null, null);
+        createGame(user, word, DAY.plusDays(1), false, 5, Game.Status.LOST); // outside the range
+
+        MvcResult result = mockMvc.perform(get("/api/admin/reports/user/" + user.getUsername()
+                + "?from=" + DAY.minusDays(1) + "&to=" + DAY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(user.getUsername()))
+                .andExpect(jsonPath("$.gameReports", hasSize(2)))
+                .andExpect(jsonPath("$.gameReports[0].date").value(DAY.toString()))
+                .andExpect(jsonPath("$.gameReports[0].wordsAttempted").value(2))
+                .andExpect(jsonPath("$.gameReports[0].correctGuesses").value(1))
+                .andExpect(jsonPath("$.gameReports[0].totalGuesses").value(2))
+                .andExpect(jsonPath("$.gameReports[0].games[0].gameId").value(won.getId()))
+                .andExpect(jsonPath("$.gameReports[0].games[0].targetWord").value(word.getWord()))
+                .andExpect(jsonPath("$.gameReports[0].games[1].gameId").value(fresh.getId()))
+                .andExpect(jsonPath("$.gameReports[0].games[1].targetWord").value("[No word yet]"))
+                .andExpect(jsonPath("$.gameReports[1].date").value(DAY.minusDays(1).toString()))
+                .andExpect(jsonPath("$.gameReports[1].games[0].gameId").value(legacy.getId()))
+                .andExpect(jsonPath("$.gameReports[1].games[0].targetWord").value("[No word yet]"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = { "ADMIN" })
+    public void testUnknownUserIsABadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/reports/user/nobody-at-all"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Game createGame(User user, Word word, LocalDate date, Boolean won, Integer guessCount,
+            Game.Status status) {
+        Game game = new Game();
+        game.setUser(user);
+        game.setWord(word);
+        game.setDatePlayed(date);
+        game.setRemainingGuesses(guessCount != null ? 5 - guessCount : 5);
+        game.setGuessCount(guessCount);
+        game.setIsWon(won);
+        game.setStatus(status);
+        return gameRepository.save(game);
+    }
+}
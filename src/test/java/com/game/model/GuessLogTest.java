@@ -0,0 +1,45 @@
+package com.game.model;
+
+import com.game.service.FeedbackEngine;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuessLogTest {
+
+    @Test
+    public void testBytesRoundTrip() {
+        GuessLog log = GuessLog.EMPTY
+                .append(FeedbackEngine.encode("CRANE"), FeedbackEngine.parse("ROORG"))
+                .append(FeedbackEngine.encode("ZZZZZ"), FeedbackEngine.parse("GGGGG"));
+
+        byte[] bytes = log.toBytes();
+        assertEquals(2 * GuessLog.BYTES_PER_GUESS, bytes.length);
+
+        GuessLog decoded = GuessLog.fromBytes(bytes);
+        assertEquals(log, decoded);
+        assertEquals("CRANE", FeedbackEngine.toWord(decoded.word(0)));
+        assertEquals("ROORG", FeedbackEngine.decode(decoded.feedback(0)));
+        assertEquals("ZZZZZ", FeedbackEngine.toWord(decoded.word(1)));
+        assertTrue(FeedbackEngine.isWin(decoded.feedback(1)));
+    }
+
+    @Test
+    public void testFullGameFitsTheColumn() {
+        GuessLog log = GuessLog.EMPTY;
+        for (int i = 0; i < GuessLog.MAX_GUESSES; i++) {
+            log = log.append(FeedbackEngine.encode("APPLE"), FeedbackEngine.parse("RRRRR"));
+        }
+        assertEquals(GuessLog.MAX_BYTES, log.toBytes().length);
+
+        GuessLog full = log;
+        assertThrows(IllegalStateException.class, () -> full.append(FeedbackEngine.encode("APPLE"), 0));
+    }
+
+    @Test
+    public void testRejectsMalformedBytes() {
+        assertEquals(0, GuessLog.fromBytes(new byte[0]).size());
+        assertThrows(IllegalArgumentException.class, () -> GuessLog.fromBytes(new byte[7]));
+        assertThrows(IllegalArgumentException.class, () -> GuessLog.fromBytes(new byte[GuessLog.MAX_BYTES + 5]));
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JwtUtilTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private final TokenCache tokenCache = new TokenCache(100);
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, tokenCache);
+
+    @Test
+    public void testVerifiedTokenIsCached() {
+        String token = jwtUtil.generateToken(1L, "alice1", "PLAYER");
+
+        VerifiedToken first = jwtUtil.verify(token).orElseThrow();
+        assertEquals(1L, first.userId());
+        assertEquals("alice1", first.username());
+        assertEquals("PLAYER", first.role());
+        assertEquals(1, tokenCache.size());
+        assertTrue(first == jwtUtil.verify(token).orElseThrow(), "Second lookup must come from the cache");
+    }
+
+    @Test
+    public void testInvalidTokensAreRejected() {
+        String token = jwtUtil.generateToken(1L, "alice1", "PLAYER");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        JwtUtil expiredIssuer = new JwtUtil(SECRET, -1_000, new TokenCache(100));
+
+        assertFalse(jwtUtil.verify(tampered).isPresent());
+        assertFalse(jwtUtil.verify("not-a-token").isPresent());
+        assertFalse(jwtUtil.verify(expiredIssuer.generateToken(1L, "alice1", "PLAYER")).isPresent());
+        assertEquals(0, tokenCache.size());
+    }
+
+    @Test
+    public void testRevokedTokenIsRejected() {
+        String token = jwtUtil.generateToken(1L, "alice1", "PLAYER");
+        assertTrue(jwtUtil.verify(token).isPresent());
+
+        assertTrue(jwtUtil.revoke(token));
+        assertFalse(jwtUtil.verify(token).isPresent());
+        assertTrue(jwtUtil.verify(jwtUtil.generateToken(1L, "bob12", "PLAYER")).isPresent());
+    }
+}
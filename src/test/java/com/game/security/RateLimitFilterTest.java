@@ -0,0 +1,72 @@
+package com.game.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(registry, true,
+            new int[] { 2, 1 }, new int[] { 2, 1 }, new int[] { 2, 1 }, new int[] { 2, 1 }, 100);
+
+    @AfterEach
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testGuessesAreLimitedPerUser() throws Exception {
+        assertEquals(200, guess(1L));
+        assertEquals(200, guess(1L));
+        assertEquals(429, guess(1L));
+        assertEquals(200, guess(2L)); // other players keep their own budget
+        assertEquals(1.0, registry.get("http.rate_limited").tag("route", "guess").counter().count());
+    }
+
+    @Test
+    public void testAuthIsLimitedPerAddressWithRetryAfter() throws Exception {
+        assertEquals(200, call(request("POST", "/api/auth/login", "10.0.0.1")).getStatus());
+        assertEquals(200, call(request("POST", "/api/auth/login", "10.0.0.1")).getStatus());
+        MockHttpServletResponse refused = call(request("POST", "/api/auth/login", "10.0.0.1"));
+        assertEquals(429, refused.getStatus());
+        assertNotNull(refused.getHeader("Retry-After"));
+        assertEquals(200, call(request("POST", "/api/auth/login", "10.0.0.2")).getStatus());
+    }
+
+    @Test
+    public void testOtherRoutesAreNotLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, call(request("GET", "/api/player/stats", "10.0.0.1")).getStatus());
+        }
+    }
+
+    private int guess(Long userId) throws Exception {
+        GamePrincipal principal = new GamePrincipal(userId, "player" + userId, "PLAYER");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null,
+                List.of()));
+        return call(request("POST", "/api/games/guess", "10.0.0.1")).getStatus();
+    }
+
+    private MockHttpServletResponse call(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(address);
+        return request;
+    }
+}
@@ -0,0 +1,64 @@
+package com.game.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testBurstThenRefill() {
+        TokenBucket bucket = new TokenBucket(3, 1.0);
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(now), "token " + i);
+        }
+        assertEquals(SECOND, bucket.tryAcquire(now)); // one refill interval away
+        assertFalse(bucket.isFull(now));
+
+        assertEquals(0, bucket.tryAcquire(now + SECOND));
+        assertTrue(bucket.tryAcquire(now + SECOND) > 0);
+        assertTrue(bucket.isFull(now + 4 * SECOND));
+    }
+
+    @Test
+    public void testConcurrentCallersNeverExceedCapacity() throws Exception {
+        TokenBucket bucket = new TokenBucket(1000, 0.001);
+        int[] taken = new int[8];
+        Thread[] threads = new Thread[taken.length];
+        for (int t = 0; t < threads.length; t++) {
+            int index = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    if (bucket.tryAcquire() == 0) {
+                        taken[index]++;
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        int total = 0;
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+            total += taken[t];
+        }
+        assertEquals(1000, total);
+    }
+
+    @Test
+    public void testBucketsShareOverflowWhenFull() {
+        TokenBuckets buckets = new TokenBuckets(1, 0.001, 2);
+        assertEquals(0, buckets.tryAcquire("a"));
+        assertEquals(0, buckets.tryAcquire("b"));
+        assertEquals(0, buckets.tryAcquire("c")); // overflow bucket
+        assertTrue(buckets.tryAcquire("d") > 0); // overflow bucket again, now empty
+        assertEquals(2, buckets.size());
+    }
+}
@@ -0,0 +1,90 @@
+package com.game.service;
+
+import com.game.TestPlayers;
+import com.game.dto.AdminReportsResponse;
+import com.game.model.Game;
+import com.game.model.Guess;
+import com.game.model.User;
+import com.game.model.Word;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import com.game.repository.UserRepository;
+import com.game.repository.WordRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class AdminReportQueryCountTest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GuessRepository guessRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void testComprehensiveReportsUseConstantStatementCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        createPlayers(2);
+        long few = countStatements(statistics);
+
+        createPlayers(20);
+        long many = countStatements(statistics);
+
+        assertEquals(few, many, "Statement count must not depend on the number of players");
+        assertTrue(many <= 5, "Expected a handful of aggregate queries, got " + many);
+    }
+
+    private long countStatements(Statistics statistics) {
+        statistics.clear();
+        AdminReportsResponse reports = gameService.getComprehensiveAdminReports(0, 1000);
+        assertTrue(reports.getPlayerReports().size() >= 2);
+        assertTrue(reports.getGameReports().size() >= 2);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createPlayers(int count) {
+        Word word = wordRepository.findAll().get(0);
+        for (int i = 0; i < count; i++) {
+            User user = TestPlayers.create(userRepository, "report");
+
+            Game game = new Game();
+            game.setUser(user);
+            game.setWord(word);
+            game.setDatePlayed(LocalDate.now());
+            game.setRemainingGuesses(4);
+            game.setGuessCount(1);
+            game.setStatus(Game.Status.IN_PROGRESS);
+            gameRepository.save(game);
+
+            Guess guess = new Guess();
+            guess.setGame(game);
+            guess.setGuessedWord("CRANE");
+            guess.setGuessNumber(1);
+            guess.setFeedback("RRRRR");
+            guessRepository.save(guess);
+        }
+    }
+}
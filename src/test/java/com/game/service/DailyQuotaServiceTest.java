@@ -0,0 +1,91 @@
+package com.game.service;
+
+import com.game.repository.GameRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DailyQuotaServiceTest {
+
+    private static final int THREADS = 64;
+
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    public void testRacingStartsNeverExceedTheLimit() throws Exception {
+        when(gameRepository.countGamesPerUserOn(any())).thenReturn(List.of());
+        DailyQuotaService quota = new DailyQuotaService(gameRepository);
+        quota.reconcile();
+
+        // Two players, every thread released at once
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Long userId = (long) (i % 2) + 1;
+            results.add(pool.submit(() -> {
+                start.await();
+                return quota.tryReserve(userId, today);
+            }));
+        }
+        start.countDown();
+
+        int reserved = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                reserved++;
+            }
+        }
+        pool.shutdown();
+
+        assertEquals(2 * DailyQuotaService.DAILY_GAME_LIMIT, reserved);
+        assertEquals(DailyQuotaService.DAILY_GAME_LIMIT, quota.used(1L, today));
+        assertEquals(DailyQuotaService.DAILY_GAME_LIMIT, quota.used(2L, today));
+    }
+
+    @Test
+    public void testReconcileSeedsCountersAfterARestart() {
+        when(gameRepository.countGamesPerUserOn(today)).thenReturn(rows(1L, 2));
+        DailyQuotaService quota = new DailyQuotaService(gameRepository);
+        quota.reconcile();
+
+        assertEquals(2, quota.used(1L, today));
+        assertTrue(quota.tryReserve(1L, today));
+        assertFalse(quota.tryReserve(1L, today));
+    }
+
+    @Test
+    public void testReconcileNeverLowersACounter() {
+        when(gameRepository.countGamesPerUserOn(today)).thenReturn(List.of());
+        DailyQuotaService quota = new DailyQuotaService(gameRepository);
+        quota.reconcile();
+        assertTrue(quota.tryReserve(1L, today));
+        assertTrue(quota.tryReserve(1L, today));
+
+        // Reservations whose games are not written yet are not in the count
+        when(gameRepository.countGamesPerUserOn(today)).thenReturn(rows(1L, 1));
+        quota.reconcile();
+
+        assertEquals(2, quota.used(1L, today));
+    }
+
+    private static List<Object[]> rows(Long userId, long count) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { userId, count });
+        return rows;
+    }
+}
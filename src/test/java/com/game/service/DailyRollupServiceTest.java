@@ -0,0 +1,128 @@
+package com.game.service;
+
+import com.game.TestPlayers;
+import com.game.dto.GuessRequest;
+import com.game.model.DailyRollup;
+import com.game.model.Game;
+import com.game.model.User;
+import com.game.repository.DailyRollupRepository;
+import com.game.repository.GameRepository;
+import com.game.repository.UserRepository;
+import com.game.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class DailyRollupServiceTest {
+
+    @Autowired
+    private DailyRollupService dailyRollupService;
+
+    @Autowired
+    private DailyRollupRepository dailyRollupRepository;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameSessionCache gameSessionCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void testPastDaysAreStoredAndTodayIsAggregatedLive() {
+        LocalDate day = pastDay();
+        User user = TestPlayers.create(userRepository, "rollup");
+        createGame(user, day, 3, true);
+        createGame(user, day, 5, false);
+
+        DailyRollup rollup = dailyRollupService.get(day);
+        assertEquals(1, rollup.getTotalUsers());
+        assertEquals(2, rollup.getTotalGames());
+        assertEquals(1, rollup.getGamesWon());
+        assertEquals(1, rollup.getGamesLost());
+        assertEquals(8, rollup.getTotalGuesses());
+        assertTrue(dailyRollupRepository.existsById(day));
+
+        // Today is still changing, so it is never stored
+        createGame(user, LocalDate.now(), 2, true);
+        assertTrue(dailyRollupService.get(LocalDate.now()).getTotalGames() >= 1);
+        assertFalse(dailyRollupRepository.existsById(LocalDate.now()));
+    }
+
+    @Test
+    public void testLateGuessInvalidatesStoredDay() {
+        LocalDate day = pastDay();
+        User user = TestPlayers.create(userRepository, "rollup");
+        Game game = createGame(user, day, 0, null);
+        assertEquals(0, dailyRollupService.get(day).getTotalGuesses());
+
+        // The game is resumed after its day was rolled up
+        GuessRequest request = new GuessRequest();
+        request.setGameId(game.getId());
+        request.setGuessedWord("CRANE");
+        gameService.submitGuess(TestPlayers.principal(user), request);
+        gameSessionCache.flush();
+
+        assertFalse(dailyRollupRepository.existsById(day));
+        assertEquals(1, dailyRollupService.get(day).getTotalGuesses());
+    }
+
+    @Test
+    public void testDayComputedAcrossAnInvalidationIsNotKept() {
+        LocalDate day = pastDay();
+        User user = TestPlayers.create(userRepository, "rollup");
+        createGame(user, day, 2, true);
+
+        DailyRollupService racing = new DailyRollupService(dailyRollupRepository, gameRepository,
+                transactionManager) {
+            @Override
+            public DailyRollup compute(LocalDate date) {
+                DailyRollup totals = super.compute(date);
+                // A late guess for the day commits before the totals are stored
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> invalidate(date));
+                return totals;
+            }
+        };
+        racing.get(day);
+
+        assertFalse(dailyRollupRepository.existsById(day));
+    }
+
+    // A day of its own, so games from other tests do not show up in its totals
+    private static LocalDate pastDay() {
+        return LocalDate.now().minusDays(1000 + ThreadLocalRandom.current().nextInt(20_000));
+    }
+
+    private Game createGame(User user, LocalDate day, int guessCount, Boolean won) {
+        Game game = new Game();
+        game.setUser(user);
+        game.setWord(wordRepository.findAll().get(0));
+        game.setDatePlayed(day);
+        game.setRemainingGuesses(5 - guessCount);
+        game.setGuessCount(guessCount);
+        game.setIsWon(won);
+        game.setStatus(Game.Status.of(guessCount, won));
+        return gameRepository.save(game);
+    }
+}
@@ -0,0 +1,127 @@
+package com.game.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExportServiceTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final long MAX_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    private final ExportService exportService = new ExportService(null, null);
+
+    @Test
+    public void testCsvExportKeepsHeapFlat() throws Exception {
+        assertFlatHeap(ExportService.Format.CSV, false);
+    }
+
+    @Test
+    public void testGzippedNdjsonExportKeepsHeapFlat() throws Exception {
+        assertFlatHeap(ExportService.Format.NDJSON, true);
+    }
+
+    @Test
+    public void testCsvValuesAreQuotedOnlyWhenNeeded() throws Exception {
+        String csv = export(ExportService.Format.CSV,
+                new Object[] { 1L, "plain", LocalDate.of(2024, 1, 2), "WON", Boolean.TRUE, 3, 2, "CRANE" },
+                new Object[] { 2L, "a,b", LocalDate.of(2024, 1, 2), "NEW", null, 0, 5, null },
+                new Object[] { 3L, "say \"hi\"", LocalDate.of(2024, 1, 2), "LOST", Boolean.FALSE, 5, 0,
+                        "two\nlines" });
+
+        assertEquals("gameId,username,datePlayed,status,won,guessCount,remainingGuesses,targetWord\n"
+                + "1,plain,2024-01-02,WON,true,3,2,CRANE\n"
+                + "2,\"a,b\",2024-01-02,NEW,,0,5,\n"
+                + "3,\"say \"\"hi\"\"\",2024-01-02,LOST,false,5,0,\"two\nlines\"\n", csv);
+    }
+
+    @Test
+    public void testNdjsonWritesOneObjectPerLine() throws Exception {
+        String ndjson = export(ExportService.Format.NDJSON,
+                new Object[] { 1L, "plain", LocalDate.of(2024, 1, 2), "WON", Boolean.TRUE, 3, 2, "CRANE" },
+                new Object[] { 2L, "say \"hi\"", LocalDate.of(2024, 1, 2), "NEW", null, 0, 5, null });
+
+        assertEquals("{\"gameId\":1,\"username\":\"plain\",\"datePlayed\":\"2024-01-02\",\"status\":\"WON\","
+                + "\"won\":true,\"guessCount\":3,\"remainingGuesses\":2,\"targetWord\":\"CRANE\"}\n"
+                + "{\"gameId\":2,\"username\":\"say \\\"hi\\\"\",\"datePlayed\":\"2024-01-02\",\"status\":\"NEW\","
+                + "\"won\":null,\"guessCount\":0,\"remainingGuesses\":5,\"targetWord\":null}\n", ndjson);
+    }
+
+    @Test
+    public void testEmptyExports() throws Exception {
+        assertEquals("gameId,username,datePlayed,status,won,guessCount,remainingGuesses,targetWord\n",
+                export(ExportService.Format.CSV));
+        assertEquals("", export(ExportService.Format.NDJSON));
+    }
+
+    private String export(ExportService.Format format, Object[]... rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.write(format, ExportService.GAME_COLUMNS, Stream.of(rows), out, false);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private void assertFlatHeap(ExportService.Format format, boolean gzip) throws Exception {
+        long[] heap = new long[2];
+        CountingOutputStream out = new CountingOutputStream();
+
+        // Sample the heap after a tenth of the rows and after the last one; a
+        // writer holding on to rows would grow by hundreds of megabytes between them
+        Stream<Object[]> rows = LongStream.range(0, ROWS).mapToObj(i -> {
+            if (i == ROWS / 10) {
+                heap[0] = usedHeapAfterGc();
+            } else if (i == ROWS - 1) {
+                heap[1] = usedHeapAfterGc();
+            }
+            return new Object[] { i, "player" + (i % 1000), LocalDate.of(2024, 1, 1).plusDays(i % 365), "WON",
+                    Boolean.TRUE, 3, 2, "CRANE" };
+        });
+        exportService.write(format, ExportService.GAME_COLUMNS, rows, out, gzip);
+
+        assertTrue(heap[1] - heap[0] < MAX_GROWTH_BYTES,
+                "Heap grew by " + (heap[1] - heap[0]) / 1024 + " KB while exporting");
+        if (!gzip) {
+            // Header line for CSV, plus one line per row
+            assertEquals(format == ExportService.Format.CSV ? ROWS + 1 : ROWS, out.lines);
+        }
+        assertTrue(out.bytes > 0);
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        long bytes;
+        long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.game.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeedbackEngineTest {
+
+    private String feedback(String guess, String target) {
+        return FeedbackEngine.decode(FeedbackEngine.score(FeedbackEngine.encode(guess), FeedbackEngine.encode(target)));
+    }
+
+    @Test
+    public void testEncodeRoundTrip() {
+        assertEquals("APPLE", FeedbackEngine.toWord(FeedbackEngine.encode("apple")));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackEngine.encode("APPL3"));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackEngine.encode("APPLES"));
+    }
+
+    @Test
+    public void testParseRoundTrip() {
+        assertEquals("GORRG", FeedbackEngine.decode(FeedbackEngine.parse("GORRG")));
+        assertEquals(FeedbackEngine.ALL_GREEN, FeedbackEngine.parse("GGGGG"));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackEngine.parse("GGYGG"));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackEngine.parse("GGG"));
+    }
+
+    @Test
+    public void testBasicFeedback() {
+        assertEquals("GGGGG", feedback("APPLE", "APPLE"));
+        assertEquals("RRRRR", feedback("BRICK", "PLANE"));
+        assertEquals("OOGRR", feedback("LEAST", "PLANE"));
+        assertTrue(FeedbackEngine.isWin(FeedbackEngine.score(FeedbackEngine.encode("TABLE"),
+                FeedbackEngine.encode("TABLE"))));
+    }
+
+    @Test
+    public void testDuplicateLettersAreNotOverReported() {
+        // Each guessed L claims one of the two Ls in HELLO
+        assertEquals("OORRR", feedback("LLAMA", "HELLO"));
+        // Green L consumes the only L, the second guessed L is grey
+        assertEquals("RRRGR", feedback("SKILL", "APPLE"));
+        // Three Es guessed, two in target
+        assertEquals("OOORR", feedback("EERIE", "BREED"));
+        // Green E is claimed before the earlier E looks for an orange
+        assertEquals("OORRG", feedback("ERASE", "THREE"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.game.service;
+
+import com.game.TestPlayers;
+import com.game.model.Game;
+import com.game.model.Guess;
+import com.game.model.User;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import com.game.repository.UserRepository;
+import com.game.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "app.games.backfill-chunk-size=2")
+public class GameBackfillJobTest {
+
+    @Autowired
+    private GameBackfillJob gameBackfillJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GuessRepository guessRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Test
+    public void testLegacyGamesGetGuessCountAndStatus() {
+        User user = TestPlayers.create(userRepository, "backfill");
+        Game fresh = legacyGame(user, null, 5, 0);
+        Game inProgress = legacyGame(user, null, 3, 2);
+        Game won = legacyGame(user, true, 2, 3);
+        Game lost = legacyGame(user, false, 0, 5);
+
+        // Filled in already (inline guesses, no rows): must not be recounted
+        Game current = legacyGame(user, null, 4, 0);
+        current.setGuessCount(1);
+        current.setStatus(Game.Status.IN_PROGRESS);
+        gameRepository.save(current);
+
+        gameBackfillJob.run();
+        assertBackfilled(fresh, 0, Game.Status.NEW);
+        assertBackfilled(inProgress, 2, Game.Status.IN_PROGRESS);
+        assertBackfilled(won, 3, Game.Status.WON);
+        assertBackfilled(lost, 5, Game.Status.LOST);
+        assertBackfilled(current, 1, Game.Status.IN_PROGRESS);
+
+        // A second run finds nothing left to do
+        long version = gameRepository.findById(won.getId()).orElseThrow().getVersion();
+        gameBackfillJob.run();
+        assertBackfilled(fresh, 0, Game.Status.NEW);
+        assertBackfilled(inProgress, 2, Game.Status.IN_PROGRESS);
+        assertBackfilled(won, 3, Game.Status.WON);
+        assertBackfilled(lost, 5, Game.Status.LOST);
+        assertBackfilled(current, 1, Game.Status.IN_PROGRESS);
+        assertEquals(version, gameRepository.findById(won.getId()).orElseThrow().getVersion());
+        assertEquals(0, gameRepository.findBackfillRange().stream()
+                .filter(range -> range[0] != null)
+                .count());
+    }
+
+    private void assertBackfilled(Game game, int guessCount, Game.Status status) {
+        Game saved = gameRepository.findById(game.getId()).orElseThrow();
+        assertEquals(guessCount, saved.getGuessCount());
+        assertEquals(status, saved.getStatus());
+    }
+
+    /**
+     * A game as the old code wrote it: a guesses row per guess, no guess count
+     * and no status
+     */
+    private Game legacyGame(User user, Boolean won, int remainingGuesses, int guesses) {
+        Game game = new Game();
+        game.setUser(user);
+        game.setWord(wordRepository.findAll().get(0));
+        game.setDatePlayed(LocalDate.of(1960, 1, 1));
+        game.setRemainingGuesses(remainingGuesses);
+        game.setIsWon(won);
+        game.setGuessCount(null);
+        game.setStatus(null);
+        gameRepository.save(game);
+
+        for (int i = 1; i <= guesses; i++) {
+            Guess guess = new Guess();
+            guess.setGame(game);
+            guess.setGuessNumber(i);
+            guess.setGuessedWord("CRANE");
+            guess.setFeedback("RRRRR");
+            guess.setCreatedAt(LocalDateTime.now());
+            guessRepository.save(guess);
+        }
+        return game;
+    }
+}
@@ -0,0 +1,154 @@
+package com.game.service;
+
+import com.game.TestPlayers;
+import com.game.dto.AdminReportsResponse;
+import com.game.dto.GameHistoryResponse;
+import com.game.dto.GameStartResponse;
+import com.game.dto.GuessRequest;
+import com.game.dto.PageResponse;
+import com.game.model.Game;
+import com.game.model.Guess;
+import com.game.model.GuessLog;
+import com.game.model.User;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import com.game.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class GameReadQueryCountTest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameSessionCache gameSessionCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GuessRepository guessRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void testHistoryIsReadWithoutGameEntities() {
+        User user = TestPlayers.create(userRepository, "reader");
+        Long first = playGame(user);
+        long few = countHistoryStatements(user, 1);
+
+        playGame(user);
+        playGame(user);
+        long many = countHistoryStatements(user, 3);
+
+        assertEquals(few, many, "Statement count must not depend on the number of games");
+        // The player comes from the token; games, words and guesses are projected
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(first, gameService.getPlayerGameHistory(user.getUsername()).getGames().get(2).getGameId());
+    }
+
+    @Test
+    public void testGameReportsLoadNoEntities() {
+        playGame(TestPlayers.create(userRepository, "reader"));
+
+        statistics.clear();
+        PageResponse<AdminReportsResponse.GameReport> page = gameService.getGameReportsPage(0, 50);
+        assertTrue(page.getItems().size() >= 1);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void testGameRequestsNeedNoUserLookup() {
+        User user = TestPlayers.create(userRepository, "reader");
+
+        statistics.clear();
+        playGame(user);
+        // The player's id comes from the token, not from findByUsername
+        assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getQueryCacheHitCount() + statistics.getQueryCacheMissCount());
+    }
+
+    @Test
+    public void testSessionLoadFetchesWordWithGame() {
+        Long gameId = playGame(TestPlayers.create(userRepository, "reader"));
+        gameSessionCache.evict(gameId);
+
+        statistics.clear();
+        GameSession session = gameSessionCache.get(gameId);
+        assertEquals(1, session.getGuesses().size());
+        // One select for the game with its word, one for its guesses
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testHistoryPageReadsGamesPlayedInline() {
+        User user = TestPlayers.create(userRepository, "reader");
+        Long inline = playGame(user);
+        Long rows = playGame(user);
+        // As if the first game was played while guesses were stored inline
+        Game game = gameRepository.findById(inline).orElseThrow();
+        List<Guess> guesses = guessRepository.findByGameOrderByGuessNumber(game);
+        GuessLog log = GuessLog.EMPTY;
+        for (Guess guess : guesses) {
+            log = log.append(FeedbackEngine.encode(guess.getGuessedWord()), FeedbackEngine.parse(guess.getFeedback()));
+        }
+        game.setGuessLog(log);
+        gameRepository.save(game);
+        guessRepository.deleteAll(guesses);
+
+        PageResponse<GameHistoryResponse.GameDetails> first = gameService.getPlayerGameHistoryPage(
+                user.getUsername(), 0, 1);
+        assertEquals(inline, first.getItems().get(0).getGameId());
+        assertEquals("CRANE", first.getItems().get(0).getGuesses().get(0).getGuessedWord());
+        assertEquals(inline, first.getNextAfterId());
+
+        PageResponse<GameHistoryResponse.GameDetails> second = gameService.getPlayerGameHistoryPage(
+                user.getUsername(), inline, 1);
+        assertEquals(rows, second.getItems().get(0).getGameId());
+        assertEquals("CRANE", second.getItems().get(0).getGuesses().get(0).getGuessedWord());
+        assertEquals(rows, second.getNextAfterId());
+        assertNull(gameService.getPlayerGameHistoryPage(user.getUsername(), rows, 1).getNextAfterId());
+    }
+
+    private long countHistoryStatements(User user, int games) {
+        statistics.clear();
+        GameHistoryResponse history = gameService.getPlayerGameHistory(TestPlayers.principal(user));
+        assertEquals(games, history.getTotalGames());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long playGame(User user) {
+        GameStartResponse game = gameService.startNewGame(TestPlayers.principal(user));
+        GuessRequest request = new GuessRequest();
+        request.setGameId(game.getGameId());
+        request.setGuessedWord("CRANE");
+        gameService.submitGuess(TestPlayers.principal(user), request);
+        gameSessionCache.flush();
+        return game.getGameId();
+    }
+}
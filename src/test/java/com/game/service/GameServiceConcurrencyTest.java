@@ -0,0 +1,102 @@
+package com.game.service;
+
+import com.game.TestPlayers;
+import com.game.dto.GameStartResponse;
+import com.game.dto.GuessRequest;
+import com.game.model.Game;
+import com.game.model.Guess;
+import com.game.model.User;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import com.game.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class GameServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameSessionCache gameSessionCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GuessRepository guessRepository;
+
+    @Test
+    public void testConcurrentGuessesOnOneGameAreSerialized() throws Exception {
+        User user = TestPlayers.create(userRepository, "stress");
+
+        GameStartResponse game = gameService.startNewGame(TestPlayers.principal(user));
+
+        // Release every thread at once so the submissions really race
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Integer> remainingSeen = ConcurrentHashMap.newKeySet();
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    GuessRequest request = new GuessRequest();
+                    request.setGameId(game.getGameId());
+                    request.setGuessedWord("CRANE");
+                    // Each accepted guess must see a distinct remaining count
+                    assertTrue(remainingSeen.add(gameService.submitGuess(TestPlayers.principal(user), request)
+                            .getRemainingGuesses()), "Two guesses observed the same game state");
+                    return true;
+                } catch (IllegalStateException e) {
+                    return false; // game completed or out of guesses
+                }
+            }));
+        }
+        start.countDown();
+
+        int accepted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                accepted++;
+            }
+        }
+        pool.shutdown();
+        gameSessionCache.flush();
+
+        // A game accepts at most five guesses, fewer only if one of them won
+        Game saved = gameRepository.findById(game.getGameId()).orElseThrow();
+        List<Guess> stored = guessRepository.findByGameOrderByGuessNumber(saved);
+        assertTrue(accepted >= 1 && accepted <= 5);
+        if (!Boolean.TRUE.equals(saved.getIsWon())) {
+            assertEquals(5, accepted);
+        }
+        assertEquals(accepted, remainingSeen.size());
+        assertEquals(accepted, stored.size());
+        for (int i = 0; i < stored.size(); i++) {
+            assertEquals(i + 1, stored.get(i).getGuessNumber());
+        }
+        assertEquals(5 - accepted, saved.getRemainingGuesses());
+        assertEquals(accepted, saved.getVersion());
+    }
+}
@@ -0,0 +1,249 @@
+package com.game.service;
+
+import com.game.dto.GuessResponse;
+import com.game.model.Game;
+import com.game.model.User;
+import com.game.model.Word;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import com.game.repository.WordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GameSessionCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final GameSessionCache cache = new GameSessionCache(null, null, null, null, null, null, new GuessStorage("rows"),
+            new NoOpTransactionManager(), registry, 100, 60_000, 1, 50, 3, 1, 1_000);
+
+    @AfterEach
+    public void shutdown() throws InterruptedException {
+        cache.shutdown();
+    }
+
+    @Test
+    public void testFailedWritesAreRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        cache.submitWrite(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("connection reset");
+            }
+        });
+        cache.flush();
+
+        assertEquals(3, attempts.get());
+        assertEquals(0, registry.find("game.write_behind.failed").counters().size());
+    }
+
+    @Test
+    public void testWritesGivenUpAreReported() {
+        AtomicInteger attempts = new AtomicInteger();
+        cache.submitWrite(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("database down");
+        });
+        cache.flush();
+
+        assertEquals(3, attempts.get());
+        assertEquals(1.0, registry.get("game.write_behind.failed").tag("reason", "error").counter().count());
+    }
+
+    @Test
+    public void testFullQueueRefusesWrites() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        cache.submitWrite(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        cache.submitWrite(() -> {
+        }); // fills the one queue slot
+        cache.submitWrite(() -> {
+        }); // waits 50ms for room, then is refused
+
+        release.countDown();
+        cache.flush();
+        assertEquals(1.0, registry.get("game.write_behind.failed").tag("reason", "queue_full").counter().count());
+    }
+
+    @Test
+    public void testRefusedGuessIsRolledBackWhileEarlierGuessesArePending() throws InterruptedException {
+        User user = new User();
+        user.setId(1L);
+        Word word = new Word(1L, "crane");
+        Game game = new Game();
+        game.setId(1L);
+        game.setUser(user);
+        game.setWord(word);
+        game.setDatePlayed(LocalDate.now());
+        GameSession session = cache.register(game);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        cache.submitWrite(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        guess(session, "slate", 1); // fills the one queue slot
+        try {
+            assertThrows(IllegalStateException.class, () -> guess(session, "crane", 2));
+
+            assertEquals(1, cache.size());
+            assertEquals(1, session.getGuesses().size());
+            assertEquals(4, session.getRemainingGuesses());
+            assertNull(session.getWon());
+            assertEquals(1L, session.getVersion());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testWritesQueuedBehindAFailedWriteAreCancelled() throws InterruptedException {
+        GameRepository gameRepository = mock(GameRepository.class);
+        GuessRepository guessRepository = mock(GuessRepository.class);
+        WordRepository wordRepository = mock(WordRepository.class);
+        Game game = game();
+        when(gameRepository.updateProgress(any(), any(), anyInt(), any(), anyInt(), any(), anyLong())).thenReturn(1);
+        when(gameRepository.updateProgress(any(), any(), anyInt(), any(), anyInt(), any(), eq(1L)))
+                .thenThrow(new IllegalStateException("database down"));
+        when(gameRepository.findWithWordById(1L)).thenReturn(Optional.of(game));
+        when(guessRepository.findByGameOrderByGuessNumber(game)).thenReturn(List.of());
+        GameSessionCache failing = new GameSessionCache(gameRepository, guessRepository, wordRepository, null,
+                mock(PlayerStatsService.class), mock(DailyRollupService.class), new GuessStorage("rows"),
+                new NoOpTransactionManager(), registry, 100, 60_000, 10, 50, 3, 1, 1_000);
+        try {
+            GameSession session = failing.register(game);
+            CountDownLatch release = new CountDownLatch(1);
+            failing.submitWrite(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            guess(failing, session, "slate", 1);
+            guess(failing, session, "plumb", 2);
+            guess(failing, session, "ghost", 3);
+            release.countDown();
+            failing.flush();
+
+            verify(gameRepository).updateProgress(any(), any(), anyInt(), any(), anyInt(), any(), eq(0L));
+            verify(gameRepository, times(3)).updateProgress(any(), any(), anyInt(), any(), anyInt(), any(), eq(1L));
+            verify(gameRepository, never()).updateProgress(any(), any(), anyInt(), any(), anyInt(), any(), eq(2L));
+            assertEquals(1.0, registry.get("game.write_behind.failed").tag("reason", "error").counter().count());
+            assertEquals(1.0, registry.get("game.write_behind.failed").tag("reason", "cancelled").counter().count());
+
+            // The player is told once, then the game is reloaded from what was saved
+            assertThrows(IllegalStateException.class, () -> failing.get(1L));
+            GameSession reloaded = failing.get(1L);
+            assertNotSame(session, reloaded);
+            assertEquals(5, reloaded.getRemainingGuesses());
+        } finally {
+            failing.shutdown();
+        }
+    }
+
+    @Test
+    public void testEvictionSkipsTheSessionInUse() throws InterruptedException {
+        GameSessionCache small = new GameSessionCache(null, null, null, null, null, null, new GuessStorage("rows"),
+                new NoOpTransactionManager(), registry, 1, 60_000, 1, 50, 3, 1, 1_000);
+        try {
+            Game first = game();
+            Game second = game();
+            second.setId(2L);
+            GameSession inUse = small.register(first);
+            small.register(second);
+
+            Lock lock = small.lockFor(1L);
+            lock.lock();
+            try {
+                small.evictIfFull();
+                assertSame(inUse, small.get(1L));
+            } finally {
+                lock.unlock();
+            }
+            assertEquals(1, small.size());
+        } finally {
+            small.shutdown();
+        }
+    }
+
+    private static Game game() {
+        User user = new User();
+        user.setId(1L);
+        Game game = new Game();
+        game.setId(1L);
+        game.setUser(user);
+        game.setWord(new Word(1L, "crane"));
+        game.setDatePlayed(LocalDate.now());
+        game.setRemainingGuesses(5);
+        return game;
+    }
+
+    private void guess(GameSession session, String word, int guessNumber) {
+        guess(cache, session, word, guessNumber);
+    }
+
+    private static void guess(GameSessionCache cache, GameSession session, String word, int guessNumber) {
+        GuessResponse.PreviousGuess guess = new GuessResponse.PreviousGuess(word, "GGGGG", guessNumber);
+        session.addGuess(guess);
+        session.setRemainingGuesses(session.getRemainingGuesses() - 1);
+        if (guessNumber == 2) {
+            session.setWon(true);
+        }
+        cache.persistGuess(session, guess);
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
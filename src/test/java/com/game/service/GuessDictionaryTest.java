@@ -0,0 +1,101 @@
+package com.game.service;
+
+import com.game.model.Word;
+import com.game.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.domain.Sort;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GuessDictionaryTest {
+
+    @TempDir
+    Path dir;
+
+    private final WordRepository wordRepository = mock(WordRepository.class);
+    private final WordDictionary wordDictionary = new WordDictionary(wordRepository);
+
+    public GuessDictionaryTest() {
+        when(wordRepository.findAll(any(Sort.class))).thenReturn(List.of(new Word(1L, "QOPHS")));
+    }
+
+    @Test
+    public void testBundledListRejectsJunk() {
+        GuessDictionary guesses = dictionary("classpath:allowed-guesses.txt");
+
+        assertTrue(guesses.isAllowed("HELLO"));
+        assertTrue(guesses.isAllowed("audio"));
+        assertTrue(guesses.isAllowed("STARE"));
+        assertFalse(guesses.isAllowed("XQZVB"));
+        assertFalse(guesses.isAllowed("AAAAA"));
+    }
+
+    @Test
+    public void testListAndTargetWordsAreAccepted() throws IOException {
+        GuessDictionary guesses = dictionary(list("# comment", "crane", " SLATE ", "TOOLONG", "AB1DE"));
+
+        assertTrue(guesses.isAllowed("CRANE"));
+        assertTrue(guesses.isAllowed("slate"));
+        assertTrue(guesses.isAllowed("QOPHS")); // target word, not in the list
+        assertFalse(guesses.isAllowed("PLUMB"));
+        assertFalse(guesses.isAllowed("TOOLO"));
+    }
+
+    @Test
+    public void testAllowedWordIsAcceptedRightAway() throws IOException {
+        GuessDictionary guesses = dictionary(list("CRANE"));
+        assertFalse(guesses.isAllowed("PLUMB"));
+
+        guesses.allow("plumb");
+        guesses.allow("NOT A WORD");
+
+        assertTrue(guesses.isAllowed("PLUMB"));
+        assertTrue(guesses.isAllowed("CRANE"));
+    }
+
+    @Test
+    public void testChangedFileIsReloaded() throws IOException {
+        String path = list("CRANE");
+        GuessDictionary guesses = dictionary(path);
+        assertTrue(guesses.isAllowed("CRANE"));
+
+        File file = new DefaultResourceLoader().getResource(path).getFile();
+        guesses.reloadIfChanged(); // unchanged, keeps the list
+        assertTrue(guesses.isAllowed("CRANE"));
+
+        Files.writeString(file.toPath(), "SLATE\n");
+        file.setLastModified(file.lastModified() + 10_000);
+        guesses.reloadIfChanged();
+
+        assertTrue(guesses.isAllowed("SLATE"));
+        assertFalse(guesses.isAllowed("CRANE"));
+    }
+
+    @Test
+    public void testBlankOrMissingListAcceptsAnyWord() {
+        assertTrue(dictionary("").isAllowed("XQZVB"));
+        assertTrue(dictionary("file:" + dir.resolve("missing.txt")).isAllowed("XQZVB"));
+    }
+
+    private GuessDictionary dictionary(String path) {
+        return new GuessDictionary(new DefaultResourceLoader(), wordDictionary, path);
+    }
+
+    private String list(String... lines) throws IOException {
+        Path file = dir.resolve("guesses.txt");
+        Files.write(file, List.of(lines));
+        return "file:" + file;
+    }
+}
@@ -0,0 +1,122 @@
+package com.game.service;
+
+import com.game.TestPlayers;
+import com.game.dto.GameHistoryResponse;
+import com.game.dto.GameStartResponse;
+import com.game.dto.GuessRequest;
+import com.game.model.Game;
+import com.game.model.Guess;
+import com.game.model.GuessLog;
+import com.game.model.User;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import com.game.repository.UserRepository;
+import com.game.repository.WordRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = { "app.games.guess-storage=inline",
+        "spring.jpa.properties.hibernate.generate_statistics=true" })
+public class InlineGuessStorageTest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameSessionCache gameSessionCache;
+
+    @Autowired
+    private GuessLogMigrationJob guessLogMigrationJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GuessRepository guessRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void testGuessesAreStoredAndReadInline() {
+        User user = TestPlayers.create(userRepository, "inline");
+        GameStartResponse game = gameService.startNewGame(TestPlayers.principal(user));
+        guess(user, game.getGameId(), "CRANE");
+        guess(user, game.getGameId(), "BLACK");
+        gameSessionCache.flush();
+
+        Game saved = gameRepository.findById(game.getGameId()).orElseThrow();
+        assertEquals(2, saved.getGuessLog().size());
+        assertTrue(guessRepository.findByGameOrderByGuessNumber(saved).isEmpty());
+
+        // Reloading the session is a single-row read
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        gameSessionCache.evict(game.getGameId());
+        statistics.clear();
+        GameSession session = gameSessionCache.get(game.getGameId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("BLACK", session.getGuesses().get(1).getWord());
+        assertEquals(2, session.getGuesses().get(1).getGuessNumber());
+
+        GameHistoryResponse history = gameService.getPlayerGameHistory(user.getUsername());
+        List<GameHistoryResponse.GuessDetails> guesses = history.getGames().get(0).getGuesses();
+        assertEquals(2, guesses.size());
+        assertEquals("CRANE", guesses.get(0).getGuessedWord());
+        assertEquals(session.getGuesses().get(0).getFeedback(), guesses.get(0).getFeedback());
+    }
+
+    @Test
+    public void testMigrationConvertsGuessRows() {
+        User user = TestPlayers.create(userRepository, "inline");
+        Game game = new Game();
+        game.setUser(user);
+        game.setWord(wordRepository.findAll().get(0));
+        game.setDatePlayed(LocalDate.now());
+        game.setRemainingGuesses(3);
+        game.setGuessCount(2);
+        game.setStatus(Game.Status.IN_PROGRESS);
+        gameRepository.save(game);
+        saveGuess(game, 1, "CRANE", "RROOR");
+        saveGuess(game, 2, "BLACK", "GRRRR");
+
+        guessLogMigrationJob.run();
+
+        GuessLog log = gameRepository.findById(game.getId()).orElseThrow().getGuessLog();
+        assertEquals(2, log.size());
+        assertEquals("BLACK", FeedbackEngine.toWord(log.word(1)));
+        assertEquals("GRRRR", FeedbackEngine.decode(log.feedback(1)));
+        assertEquals(2, gameService.getPlayerGameHistory(user.getUsername()).getGames().get(0).getGuesses().size());
+    }
+
+    private void guess(User user, Long gameId, String word) {
+        GuessRequest request = new GuessRequest();
+        request.setGameId(gameId);
+        request.setGuessedWord(word);
+        gameService.submitGuess(TestPlayers.principal(user), request);
+    }
+
+    private void saveGuess(Game game, int number, String word, String feedback) {
+        Guess guess = new Guess();
+        guess.setGame(game);
+        guess.setGuessNumber(number);
+        guess.setGuessedWord(word);
+        guess.setFeedback(feedback);
+        guessRepository.save(guess);
+    }
+}
@@ -0,0 +1,53 @@
+package com.game.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PasswordHashingExecutorTest {
+
+    @Test
+    public void testFullQueueIsRejected() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(registry, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            CompletableFuture<String> running = executor.submit(() -> {
+                started.countDown();
+                await(release);
+                return "first";
+            });
+            started.await(5, TimeUnit.SECONDS);
+            CompletableFuture<String> queued = executor.submit(() -> "second");
+
+            TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                    () -> executor.submit(() -> "third"));
+            assertEquals(1, e.getRetryAfterSeconds());
+            assertEquals(1.0, registry.get("login.queue.depth").gauge().value());
+
+            release.countDown();
+            assertEquals("first", running.get(5, TimeUnit.SECONDS));
+            assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+            assertEquals(2, registry.get("login.hash").timer().count());
+            assertEquals(1.0, registry.get("login.rejected").counter().count());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.game.service;
+
+import com.game.model.PlayerStats;
+import com.game.repository.GameRepository;
+import com.game.repository.PlayerStatsRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PlayerStatsServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final PlayerStatsRepository playerStatsRepository = mock(PlayerStatsRepository.class);
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final PlayerStatsService service = new PlayerStatsService(playerStatsRepository, gameRepository);
+
+    // isWon, guessCount, remainingGuesses, oldest first
+    private final List<Object[]> history = new ArrayList<>();
+
+    public PlayerStatsServiceTest() {
+        when(gameRepository.findResultsByUser(USER_ID)).thenReturn(history);
+        when(playerStatsRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    public void testStreaksAndHistogram() {
+        game(true, 3);
+        game(true, 1);
+        game(false, 5);
+        game(true, 5);
+        game(true, 2);
+        game(true, 2);
+        legacyGame(true, 1); // 4 guesses taken
+
+        PlayerStats stats = service.rebuild(USER_ID);
+
+        assertEquals(7, stats.getTotalGames());
+        assertEquals(6, stats.getGamesWon());
+        assertEquals(4, stats.getCurrentStreak());
+        assertEquals(4, stats.getLongestStreak());
+        assertEquals(3 + 1 + 5 + 2 + 2 + 4, stats.getWonGuessSum());
+        assertEquals(1, stats.getWinsIn1());
+        assertEquals(2, stats.getWinsIn2());
+        assertEquals(1, stats.getWinsIn3());
+        assertEquals(1, stats.getWinsIn4());
+        assertEquals(1, stats.getWinsIn5());
+    }
+
+    @Test
+    public void testRecordedResultsMatchTheRebuild() {
+        PlayerStats live = new PlayerStats(USER_ID);
+        when(playerStatsRepository.findById(USER_ID)).thenReturn(Optional.of(live));
+
+        record(live, true, 2);
+        record(live, false, 5);
+        record(live, true, 4);
+        record(live, true, 1);
+        record(live, false, 0); // ended without a guess
+        record(live, true, 5);
+        record(live, false, 3);
+        record(live, true, 3);
+
+        assertEquals(service.rebuild(USER_ID), live);
+        assertEquals(7, live.getTotalGames());
+        assertEquals(3, live.getLongestStreak());
+        assertEquals(1, live.getCurrentStreak());
+    }
+
+    /**
+     * Complete a game: add it to the history and fold it in incrementally
+     */
+    private void record(PlayerStats live, boolean won, int guessCount) {
+        game(won, guessCount);
+        service.recordResult(USER_ID, won, guessCount);
+    }
+
+    private void game(boolean won, int guessCount) {
+        history.add(new Object[] { won, guessCount, 5 - guessCount });
+    }
+
+    private void legacyGame(boolean won, int remainingGuesses) {
+        history.add(new Object[] { won, null, remainingGuesses });
+    }
+}
@@ -0,0 +1,97 @@
+package com.game.service;
+
+import com.game.TestPlayers;
+import com.game.dto.DailyReportResponse;
+import com.game.model.Game;
+import com.game.model.User;
+import com.game.model.Word;
+import com.game.repository.GameRepository;
+import com.game.repository.UserRepository;
+import com.game.repository.WordRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Two rows per chunk, so a chunk boundary falls inside a day, and two threads,
+// so ranges are split in parts
+@SpringBootTest(properties = { "app.reports.range-chunk-size=2", "app.reports.range-threads=2" })
+public class RangeReportServiceTest {
+
+    // A Monday long before any other test's games
+    private static final LocalDate MONDAY = LocalDate.of(1900, 1, 1);
+
+    @Autowired
+    private RangeReportService rangeReportService;
+
+    @BeforeAll
+    public static void createGames(@Autowired UserRepository userRepository,
+            @Autowired GameRepository gameRepository, @Autowired WordRepository wordRepository) {
+        Word word = wordRepository.findAll().get(0);
+        User alice = TestPlayers.create(userRepository, "range");
+        User bob = TestPlayers.create(userRepository, "range");
+        gameRepository.save(game(alice, word, MONDAY, 3, true));
+        gameRepository.save(game(bob, word, MONDAY, 5, false));
+        gameRepository.save(game(alice, word, MONDAY, 4, true));
+        gameRepository.save(game(alice, word, MONDAY.plusDays(2), 2, true));
+        gameRepository.save(game(bob, word, MONDAY.plusDays(8), 1, null));
+    }
+
+    @Test
+    public void testDailyBucketsIncludeEmptyDays() {
+        List<DailyReportResponse> series = rangeReportService.getRangeReport(MONDAY, MONDAY.plusDays(3), "day");
+
+        assertEquals(4, series.size());
+        DailyReportResponse monday = series.get(0);
+        assertEquals(MONDAY, monday.getDate());
+        assertEquals(2, monday.getTotalUsers());
+        assertEquals(3, monday.getTotalGames());
+        assertEquals(2, monday.getGamesWon());
+        assertEquals(1, monday.getGamesLost());
+        assertEquals(12, monday.getTotalGuesses());
+        assertEquals(0, series.get(1).getTotalGames());
+        assertEquals(1, series.get(2).getTotalGames());
+        assertEquals(0, series.get(3).getTotalGames());
+    }
+
+    @Test
+    public void testWeeklyBucketsStartOnMonday() {
+        List<DailyReportResponse> series = rangeReportService.getRangeReport(MONDAY.plusDays(2),
+                MONDAY.plusDays(13), "week");
+
+        assertEquals(2, series.size());
+        assertEquals(MONDAY, series.get(0).getDate());
+        assertEquals(1, series.get(0).getTotalGames()); // Monday's games are before the range
+        assertEquals(MONDAY.plusDays(7), series.get(1).getDate());
+        assertEquals(1, series.get(1).getTotalGames());
+        assertEquals(1, series.get(1).getGamesInProgress());
+    }
+
+    @Test
+    public void testInvalidRangesAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> rangeReportService.getRangeReport(MONDAY.plusDays(1), MONDAY, "day"));
+        assertThrows(IllegalArgumentException.class,
+                () -> rangeReportService.getRangeReport(MONDAY, MONDAY.plusDays(366), "day"));
+        assertThrows(IllegalArgumentException.class,
+                () -> rangeReportService.getRangeReport(MONDAY, MONDAY.plusDays(1), "month"));
+    }
+
+    private static Game game(User user, Word word, LocalDate day, int guessCount, Boolean won) {
+        Game game = new Game();
+        game.setUser(user);
+        game.setWord(word);
+        game.setDatePlayed(day);
+        game.setRemainingGuesses(5 - guessCount);
+        game.setGuessCount(guessCount);
+        game.setIsWon(won);
+        game.setStatus(Game.Status.of(guessCount, won));
+        return game;
+    }
+}
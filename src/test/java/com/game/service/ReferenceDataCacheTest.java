@@ -0,0 +1,76 @@
+package com.game.service;
+
+import com.game.TestPlayers;
+import com.game.dto.CacheStatsResponse;
+import com.game.dto.RegisterRequest;
+import com.game.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ReferenceDataCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void testUsernameLookupIsServedFromCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String username = register();
+
+        Long id = userRepository.findByUsername(username).orElseThrow().getId();
+        statistics.clear();
+        assertEquals(id, userRepository.findByUsername(username).orElseThrow().getId());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertTrue(hits("users-by-username") > 0);
+        assertTrue(hits("users") > 0);
+    }
+
+    @Test
+    public void testRegisterInvalidatesCachedLookup() {
+        String username = TestPlayers.username("cache");
+        assertTrue(userRepository.findByUsername(username).isEmpty()); // caches the empty result
+
+        register(username);
+        assertTrue(userRepository.findByUsername(username).isPresent());
+    }
+
+    private long hits(String region) {
+        return cacheStatisticsService.getCacheStatistics().stream()
+                .filter(stats -> stats.getRegion().equals(region))
+                .mapToLong(CacheStatsResponse::getHits)
+                .sum();
+    }
+
+    private String register() {
+        String username = TestPlayers.username("cache");
+        register(username);
+        return username;
+    }
+
+    private void register(String username) {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setPassword("pass1$");
+        request.setRole("PLAYER");
+        userService.register(request);
+    }
+}
@@ -0,0 +1,96 @@
+package com.game.service;
+
+import com.game.TestPlayers;
+import com.game.dto.GameHistoryResponse;
+import com.game.dto.GuessRequest;
+import com.game.dto.GuessResponse;
+import com.game.model.Game;
+import com.game.model.GuessLog;
+import com.game.model.User;
+import com.game.repository.GameRepository;
+import com.game.repository.GuessRepository;
+import com.game.repository.UserRepository;
+import com.game.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "app.games.guess-storage=rows")
+public class RowsGuessStorageTest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameSessionCache gameSessionCache;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GuessRepository guessRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Test
+    public void testGameWithAnInlineLogIsResumedInRowsMode() throws Exception {
+        // Played while storage was inline: one guess, in the log only
+        User user = TestPlayers.create(userRepository, "rows");
+        Game game = new Game();
+        game.setUser(user);
+        game.setWord(wordRepository.findAll().get(0));
+        game.setDatePlayed(LocalDate.now());
+        game.setRemainingGuesses(4);
+        game.setGuessCount(1);
+        game.setStatus(Game.Status.IN_PROGRESS);
+        game.setGuessLog(GuessLog.EMPTY.append(FeedbackEngine.encode("CRANE"), FeedbackEngine.parse("RROOR")));
+        gameRepository.save(game);
+
+        assertEquals("CRANE", gameSessionCache.get(game.getId()).getGuesses().get(0).getWord());
+
+        GuessRequest request = new GuessRequest();
+        request.setGameId(game.getId());
+        request.setGuessedWord("BLACK");
+        GuessResponse response = gameService.submitGuess(TestPlayers.principal(user), request);
+        assertEquals(2, response.getPreviousGuesses().size());
+        assertEquals(2, response.getPreviousGuesses().get(1).getGuessNumber());
+        gameSessionCache.flush();
+
+        // The log stays the game's record of its guesses
+        Game saved = gameRepository.findById(game.getId()).orElseThrow();
+        assertEquals(2, saved.getGuessLog().size());
+        assertTrue(guessRepository.findByGameOrderByGuessNumber(saved).isEmpty());
+
+        gameSessionCache.evict(game.getId());
+        assertEquals("BLACK", gameSessionCache.get(game.getId()).getGuesses().get(1).getWord());
+
+        List<GameHistoryResponse.GuessDetails> history = gameService.getPlayerGameHistory(user.getUsername())
+                .getGames().get(0).getGuesses();
+        assertEquals(2, history.size());
+        assertEquals("RROOR", history.get(0).getFeedback());
+        assertEquals(2, gameService.getPlayerGameHistoryPage(user.getUsername(), 0, 10).getItems().get(0)
+                .getGuesses().size());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportGuesses(LocalDate.now(), LocalDate.now(), ExportService.Format.NDJSON, false, out);
+        long exported = out.toString(StandardCharsets.UTF_8).lines()
+                .filter(line -> line.contains("\"gameId\":" + game.getId() + ","))
+                .count();
+        assertEquals(2, exported);
+    }
+}
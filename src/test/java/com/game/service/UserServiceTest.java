@@ -0,0 +1,71 @@
+package com.game.service;
+
+import com.game.dto.AuthResponse;
+import com.game.dto.LoginRequest;
+import com.game.model.User;
+import com.game.repository.UserRepository;
+import com.game.security.JwtUtil;
+import com.game.security.LoginThrottle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class UserServiceTest {
+
+    @Test
+    public void testOnlyThePasswordCheckRunsOnTheHashingPool() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("player1");
+        user.setPassword(encoder.encode("secret$1"));
+        user.setRole(User.Role.PLAYER);
+
+        AtomicReference<String> lookupThread = new AtomicReference<>();
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsername("player1")).thenAnswer(invocation -> {
+            lookupThread.set(Thread.currentThread().getName());
+            return Optional.of(user);
+        });
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        when(jwtUtil.generateToken(1L, "player1", "PLAYER")).thenReturn("token");
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(registry, 1, 4);
+        UserService userService = new UserService(userRepository, jwtUtil, encoder,
+                new LoginThrottle(registry, 5, 10, 100), executor);
+        try {
+            AuthResponse response = userService.loginAsync(login("player1", "secret$1")).get(5, TimeUnit.SECONDS);
+            assertEquals("token", response.getToken());
+            assertEquals(Thread.currentThread().getName(), lookupThread.get());
+            assertEquals(1, registry.get("login.hash").timer().count());
+
+            CompletionException wrong = assertThrows(CompletionException.class,
+                    () -> userService.loginAsync(login("player1", "wrong$1")).join());
+            assertInstanceOf(IllegalArgumentException.class, wrong.getCause());
+
+            // Unknown users are refused before anything is queued
+            assertThrows(IllegalArgumentException.class, () -> userService.loginAsync(login("nobody", "secret$1")));
+            assertEquals(2, registry.get("login.hash").timer().count());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static LoginRequest login(String username, String password) {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(username);
+        request.setPassword(password);
+        return request;
+    }
+}
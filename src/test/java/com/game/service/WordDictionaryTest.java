@@ -0,0 +1,190 @@
+package com.game.service;
+
+import com.game.model.Word;
+import com.game.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WordDictionaryTest {
+
+    private final List<Word> rows = new ArrayList<>();
+    private final WordRepository wordRepository = mock(WordRepository.class);
+    private final WordDictionary dictionary = new WordDictionary(wordRepository);
+
+    public WordDictionaryTest() {
+        // The repository sorts by id, as the query does
+        when(wordRepository.findAll(any(Sort.class))).thenAnswer(invocation -> rows.stream()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toList());
+    }
+
+    @Test
+    public void testReloadIndexesWordsInIdOrderAndSkipsUnencodableRows() {
+        rows.add(new Word(30L, "PLUMB"));
+        rows.add(new Word(10L, "CRANE"));
+        rows.add(new Word(20L, "sl4te"));
+        rows.add(new Word(25L, "TOOLONG"));
+        rows.add(new Word(40L, "ghost"));
+        dictionary.reload();
+
+        assertEquals(3, dictionary.size());
+        assertEquals(10L, dictionary.idAt(0));
+        assertEquals(30L, dictionary.idAt(1));
+        assertEquals(40L, dictionary.idAt(2));
+        assertEquals("CRANE", dictionary.wordAt(0));
+        assertEquals("GHOST", dictionary.wordAt(2));
+
+        assertEquals(1, dictionary.indexOfId(30L));
+        assertEquals(-1, dictionary.indexOfId(20L));
+        assertEquals(-1, dictionary.indexOfId(25L));
+        assertEquals(-1, dictionary.indexOfId(null));
+        assertEquals(2, dictionary.indexOfPacked(FeedbackEngine.encode("GHOST")));
+        assertEquals(-1, dictionary.indexOfPacked(FeedbackEngine.encode("SLATE")));
+        assertNull(dictionary.wordOf(20L));
+        assertTrue(dictionary.contains("plumb"));
+        assertFalse(dictionary.contains("TOOLONG"));
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.idAt(3));
+    }
+
+    @Test
+    public void testAddAppendsInCallOrderAndReloadRenumbers() {
+        rows.add(new Word(10L, "CRANE"));
+        dictionary.reload();
+
+        Word late = new Word(50L, "SLATE");
+        Word early = new Word(5L, "BRICK");
+        dictionary.add(late);
+        dictionary.add(early);
+        dictionary.add(early); // already indexed
+        dictionary.add(new Word(null, "GHOST")); // not saved
+        dictionary.add(new Word(60L, "GH0ST"));
+
+        assertEquals(3, dictionary.size());
+        assertEquals(1, dictionary.indexOfId(50L));
+        assertEquals(2, dictionary.indexOfId(5L));
+        assertEquals("BRICK", dictionary.wordOf(5L));
+
+        // Positions are only meaningful within one load; ids keep their words
+        rows.add(late);
+        rows.add(early);
+        dictionary.reload();
+        assertEquals(0, dictionary.indexOfId(5L));
+        assertEquals(2, dictionary.indexOfId(50L));
+        assertEquals("BRICK", dictionary.wordOf(5L));
+        assertEquals("SLATE", dictionary.wordOf(50L));
+    }
+
+    @Test
+    public void testDrawUnseenGivesEveryWordOnceThenRunsOut() {
+        // Sparse ids, as pooled id allocation leaves them, over several bitmap words
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rows.add(new Word(i * 50L + 1, word(i)));
+            ids.add(i * 50L + 1);
+        }
+        dictionary.reload();
+
+        SeenWordSet seen = dictionary.seenSet(new long[0]);
+        Set<Long> drawn = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            assertTrue(drawn.add(dictionary.drawUnseen(seen)));
+        }
+        assertEquals(Set.copyOf(ids), drawn);
+        assertEquals(-1L, dictionary.drawUnseen(seen));
+
+        long[] saved = SeenWordSet.idsFromBytes(seen.toBytes());
+        assertEquals(ids, Arrays.stream(saved).boxed().toList());
+    }
+
+    @Test
+    public void testSeenSetIsMappedOntoAReloadedDictionary() {
+        rows.add(new Word(10L, "CRANE"));
+        rows.add(new Word(20L, "SLATE"));
+        dictionary.reload();
+        SeenWordSet seen = dictionary.seenSet(new long[] { 10L, 20L, 99L });
+        assertEquals(2, seen.cardinality());
+
+        // A lower id shifts every position
+        rows.add(new Word(5L, "BRICK"));
+        dictionary.reload();
+
+        assertEquals(5L, dictionary.drawUnseen(seen));
+        assertEquals(-1L, dictionary.drawUnseen(seen));
+        assertArrayEquals(new long[] { 5L, 10L, 20L }, seen.wordIds());
+    }
+
+    @Test
+    public void testReadersSeeConsistentWordsWhileWordsAreAdded() throws Exception {
+        dictionary.reload();
+        int words = 5_000;
+        AtomicBoolean done = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int r = 0; r < 4; r++) {
+                results.add(readers.submit(() -> {
+                    start.await();
+                    while (!done.get()) {
+                        int size = dictionary.size();
+                        for (int i = 0; i < size; i++) {
+                            // Every published index already has its word and both lookups
+                            long id = dictionary.idAt(i);
+                            String word = dictionary.wordAt(i);
+                            assertEquals(word(id), word);
+                            assertEquals(i, dictionary.indexOfId(id));
+                            assertEquals(i, dictionary.indexOfPacked(FeedbackEngine.encode(word)));
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (int i = 1; i <= words; i++) {
+                dictionary.add(new Word((long) i, word(i)));
+            }
+            done.set(true);
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+        assertEquals(words, dictionary.size());
+    }
+
+    /**
+     * A distinct five-letter word for each id
+     */
+    private static String word(long id) {
+        char[] letters = new char[5];
+        for (int i = 4; i >= 0; i--) {
+            letters[i] = (char) ('A' + id % 26);
+            id /= 26;
+        }
+        return new String(letters);
+    }
+}
@@ -0,0 +1,107 @@
+package com.game.service;
+
+import com.game.dto.WordImportResponse;
+import com.game.model.Word;
+import com.game.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WordImportServiceTest {
+
+    private final WordRepository wordRepository = mock(WordRepository.class);
+    private final WordDictionary wordDictionary = mock(WordDictionary.class);
+    private final GuessDictionary guessDictionary = mock(GuessDictionary.class);
+    private final WordImportService service = new WordImportService(wordRepository, wordDictionary, guessDictionary,
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    public void testWordsAreCountedAsAcceptedDuplicateOrRejected() throws IOException {
+        when(wordDictionary.contains("CRANE")).thenReturn(true);
+
+        WordImportResponse response = service.importWords(
+                new StringReader("crane, SLATE slate;plumb\nTOOLONG ab1de  \n\nghost,CRANE\n"));
+
+        assertEquals(3, response.getAccepted()); // SLATE, PLUMB, GHOST
+        assertEquals(3, response.getDuplicates()); // crane (known), slate, CRANE
+        assertEquals(2, response.getRejected()); // TOOLONG, ab1de
+        verify(wordDictionary).reload();
+        verify(guessDictionary).reload();
+    }
+
+    @Test
+    public void testBatchWithAnUnknownDuplicateFallsBackToRowByRow() throws IOException {
+        when(wordRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(wordRepository.saveAndFlush(argThat((Word word) -> word.getWord().equals("SLATE"))))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        WordImportResponse response = service.importWords(new StringReader("SLATE PLUMB GHOST"));
+
+        assertEquals(2, response.getAccepted());
+        assertEquals(1, response.getDuplicates());
+        assertEquals(0, response.getRejected());
+    }
+
+    @Test
+    public void testDictionariesAreReloadedAfterAPartlyFailedImport() {
+        // The first batch of 1000 commits, the second fails
+        AtomicInteger batches = new AtomicInteger();
+        when(wordRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            if (batches.incrementAndGet() == 2) {
+                throw new IllegalStateException("connection lost");
+            }
+            return invocation.getArgument(0);
+        });
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            words.add(word(i));
+        }
+
+        assertThrows(IllegalStateException.class,
+                () -> service.importWords(new StringReader(String.join("\n", words))));
+
+        verify(wordRepository, times(2)).saveAll(anyList());
+        verify(wordDictionary).reload();
+        verify(guessDictionary).reload();
+    }
+
+    @Test
+    public void testNothingIsReloadedWhenNothingWasInserted() throws IOException {
+        when(wordDictionary.contains("CRANE")).thenReturn(true);
+
+        WordImportResponse response = service.importWords(new StringReader("CRANE 12345"));
+
+        assertEquals(0, response.getAccepted());
+        verify(wordRepository, never()).saveAll(anyList());
+        verify(wordDictionary, never()).reload();
+        verify(guessDictionary, never()).reload();
+    }
+
+    /**
+     * A distinct five-letter word for each number
+     */
+    private static String word(int n) {
+        char[] letters = new char[5];
+        for (int i = 4; i >= 0; i--) {
+            letters[i] = (char) ('A' + n % 26);
+            n /= 26;
+        }
+        return new String(letters);
+    }
+}
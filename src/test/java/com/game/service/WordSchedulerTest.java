@@ -0,0 +1,99 @@
+package com.game.service;
+
+import com.game.model.UserWordHistory;
+import com.game.model.Word;
+import com.game.repository.GameRepository;
+import com.game.repository.UserWordHistoryRepository;
+import com.game.repository.WordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WordSchedulerTest {
+
+    private static final Long USER_ID = 7L;
+
+    private final List<Word> rows = new ArrayList<>(List.of(
+            new Word(10L, "CRANE"), new Word(20L, "SLATE"), new Word(30L, "PLUMB"), new Word(40L, "GHOST")));
+    private final Map<Long, UserWordHistory> saved = new HashMap<>();
+
+    private final WordRepository wordRepository = mock(WordRepository.class);
+    private final UserWordHistoryRepository historyRepository = mock(UserWordHistoryRepository.class);
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final GameSessionCache gameSessionCache = mock(GameSessionCache.class);
+    private final WordDictionary wordDictionary = new WordDictionary(wordRepository);
+
+    public WordSchedulerTest() {
+        when(wordRepository.findAll(any(Sort.class))).thenAnswer(invocation -> List.copyOf(rows));
+        when(historyRepository.findById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(saved.get(invocation.<Long>getArgument(0))));
+        when(historyRepository.save(any())).thenAnswer(invocation -> {
+            UserWordHistory history = invocation.getArgument(0);
+            // Keep only the bytes, as the table would
+            saved.put(history.getUserId(), new UserWordHistory(history.getUserId(), history.getSeenWordIds().clone()));
+            return history;
+        });
+        when(gameRepository.findPlayedWordIdsByUser(any())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(gameSessionCache).submitWrite(any());
+    }
+
+    @Test
+    public void testSeenWordsSurviveADictionaryReload() {
+        Set<Long> drawn = new HashSet<>();
+        WordScheduler before = new WordScheduler(wordDictionary, historyRepository, gameRepository, gameSessionCache);
+        assertTrue(drawn.add(before.nextWordId(USER_ID)));
+        assertTrue(drawn.add(before.nextWordId(USER_ID)));
+
+        // An import adds a word with a lower id and a row that cannot be
+        // encoded, so every index shifts; then the server restarts
+        rows.add(0, new Word(5L, "BRICK"));
+        rows.add(1, new Word(6L, "TOOLONG"));
+        wordDictionary.reload();
+        WordScheduler after = new WordScheduler(wordDictionary, historyRepository, gameRepository, gameSessionCache);
+
+        for (int i = 0; i < 3; i++) {
+            long wordId = after.nextWordId(USER_ID);
+            assertTrue(drawn.add(wordId), "word " + wordId + " was drawn twice");
+        }
+        assertEquals(Set.of(5L, 10L, 20L, 30L, 40L), drawn);
+        assertEquals(drawn.size(), SeenWordSet.idsFromBytes(saved.get(USER_ID).getSeenWordIds()).length);
+    }
+
+    @Test
+    public void testNewCycleStartsOnceEveryWordWasSeen() {
+        WordScheduler scheduler = new WordScheduler(wordDictionary, historyRepository, gameRepository, gameSessionCache);
+        Set<Long> cycle = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            cycle.add(scheduler.nextWordId(USER_ID));
+        }
+        assertEquals(rows.size(), cycle.size());
+
+        assertTrue(cycle.contains(scheduler.nextWordId(USER_ID)));
+        assertEquals(1, SeenWordSet.idsFromBytes(saved.get(USER_ID).getSeenWordIds()).length);
+    }
+
+    @Test
+    public void testSeenSetIsBootstrappedFromPlayedGames() {
+        when(gameRepository.findPlayedWordIdsByUser(USER_ID)).thenReturn(List.of(10L, 20L, 30L));
+        WordScheduler scheduler = new WordScheduler(wordDictionary, historyRepository, gameRepository, gameSessionCache);
+
+        assertEquals(40L, scheduler.nextWordId(USER_ID));
+    }
+}